@@ -0,0 +1,88 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.google.common.collect.Streams;
+import com.palantir.conjure.postman.api.PostmanEvent;
+import com.palantir.conjure.postman.api.PostmanItem;
+import com.palantir.conjure.postman.api.PostmanVariable;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A previously rendered {@link com.palantir.conjure.postman.api.PostmanFolder}, serialized verbatim from its stored
+ * JSON. The folder's own attributes are read back on demand; its items are never deserialized.
+ */
+final class CachedPostmanFolder implements PostmanItem {
+
+    private static final ObjectMapper mapper = new ObjectMapper().registerModule(new Jdk8Module());
+
+    private final JsonNode json;
+
+    CachedPostmanFolder(JsonNode json) {
+        this.json = json;
+    }
+
+    @Override
+    public String name() {
+        return json.get("name").asText();
+    }
+
+    @Override
+    public Optional<String> description() {
+        return Optional.ofNullable(json.get("description"))
+                .filter(JsonNode::isTextual)
+                .map(JsonNode::asText);
+    }
+
+    @Override
+    public List<PostmanEvent> events() {
+        return elements("event").map(CachedPostmanFolder::event).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<PostmanVariable> variables() {
+        return elements("variable")
+                .map(variable -> mapper.convertValue(variable, PostmanVariable.class))
+                .collect(Collectors.toList());
+    }
+
+    private Stream<JsonNode> elements(String field) {
+        return Streams.stream(json.path(field).elements());
+    }
+
+    /** Reads back an event, whose {@link PostmanEvent#listen()} determines its type but is derived from it. */
+    private static PostmanEvent event(JsonNode json) {
+        ObjectNode event = json.deepCopy();
+        PostmanEvent.Listen listen = mapper.convertValue(event.remove("listen"), PostmanEvent.Listen.class);
+        Class<? extends PostmanEvent> type =
+                listen == PostmanEvent.Listen.TEST ? PostmanEvent.Test.class : PostmanEvent.PreRequest.class;
+        return mapper.convertValue(event, type);
+    }
+
+    @JsonValue
+    JsonNode json() {
+        return json;
+    }
+}
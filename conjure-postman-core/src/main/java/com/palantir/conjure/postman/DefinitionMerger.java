@@ -0,0 +1,93 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import com.google.common.base.Preconditions;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.ServiceDefinition;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.visitor.TypeDefinitionVisitor;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Merges several {@link ConjureDefinition}s into one, as if they had been compiled together. Definitions of a project
+ * commonly share types through common dependencies; identical definitions of a type or service are kept once, while
+ * differing definitions under the same name are rejected since the merged definition could only hold one of them.
+ * Services in different packages must also differ in their simple name, which names their folder and, when generating
+ * per service, their collection file.
+ */
+final class DefinitionMerger {
+
+    private DefinitionMerger() {}
+
+    static ConjureDefinition merge(List<ConjureDefinition> definitions) {
+        if (definitions.size() == 1) {
+            return definitions.get(0);
+        }
+        Map<TypeName, TypeDefinition> types = new LinkedHashMap<>();
+        Map<TypeName, ServiceDefinition> services = new LinkedHashMap<>();
+        int version = 0;
+        for (ConjureDefinition definition : definitions) {
+            version = Math.max(version, definition.getVersion());
+            addAll(types, definition.getTypes(), type -> type.accept(TypeDefinitionVisitor.TYPE_NAME), "type");
+            addAll(services, definition.getServices(), ServiceDefinition::getServiceName, "service");
+        }
+        checkDistinctServiceNames(services.keySet());
+        return ConjureDefinition.builder()
+                .version(version)
+                .types(types.values())
+                .services(services.values())
+                .build();
+    }
+
+    private static void checkDistinctServiceNames(Collection<TypeName> serviceNames) {
+        Map<String, TypeName> bySimpleName = new HashMap<>();
+        for (TypeName serviceName : serviceNames) {
+            TypeName existing = bySimpleName.putIfAbsent(serviceName.getName(), serviceName);
+            if (existing != null) {
+                throw new IllegalArgumentException(String.format(
+                        "Services %s.%s and %s.%s share the name %s",
+                        existing.getPackage(),
+                        existing.getName(),
+                        serviceName.getPackage(),
+                        serviceName.getName(),
+                        serviceName.getName()));
+            }
+        }
+    }
+
+    @SuppressWarnings("PreferSafeLoggingPreconditions")
+    private static <T> void addAll(
+            Map<TypeName, T> merged, Collection<T> values, Function<T, TypeName> name, String kind) {
+        for (T value : values) {
+            TypeName typeName = name.apply(value);
+            T existing = merged.putIfAbsent(typeName, value);
+            Preconditions.checkArgument(
+                    existing == null || existing.equals(value),
+                    "Conflicting definitions of %s %s.%s",
+                    kind,
+                    typeName.getPackage(),
+                    typeName.getName());
+        }
+    }
+}
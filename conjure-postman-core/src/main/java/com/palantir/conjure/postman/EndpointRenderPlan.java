@@ -0,0 +1,85 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import com.palantir.conjure.postman.api.PostmanRequest;
+import com.palantir.conjure.postman.api.PostmanUrl;
+import com.palantir.tokens.auth.ImmutablesStyle;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.immutables.value.Value;
+
+/**
+ * Everything rendered for a single endpoint, computed once and then assembled into a {@link PostmanRequest}. Parts
+ * that appear in more than one place of the request, such as the returns template, are shared rather than rendered
+ * again.
+ */
+@Value.Immutable
+@ImmutablesStyle
+interface EndpointRenderPlan {
+
+    String name();
+
+    PostmanUrl url();
+
+    PostmanRequest.Request.Method method();
+
+    List<PostmanRequest.Header> headers();
+
+    Optional<PostmanRequest.Body> body();
+
+    /** Documentation, deprecation notice and return type name of the endpoint, one paragraph each. */
+    List<String> docs();
+
+    /**
+     * JSON template of the return type, fenced as a Markdown code block. Pretty-printed, or compact when
+     * {@link GeneratorConfiguration#compactTemplates()} is set.
+     */
+    Optional<String> returnsTemplate();
+
+    default Optional<String> description(boolean includeReturnsTemplate) {
+        List<String> paragraphs = includeReturnsTemplate
+                ? Stream.concat(docs().stream(), returnsTemplate().stream()).collect(Collectors.toList())
+                : docs();
+        return paragraphs.isEmpty() ? Optional.empty() : Optional.of(String.join("\n\n", paragraphs));
+    }
+
+    default PostmanRequest toRequest(ReturnsTemplatePlacement placement, String id) {
+        PostmanRequest.Request request = PostmanRequest.Request.builder()
+                .url(url())
+                .method(method())
+                .header(headers())
+                .description(description(placement.inRequest()))
+                .body(body())
+                .build();
+
+        return PostmanRequest.builder()
+                .id(id)
+                .name(name())
+                .description(description(placement.inItem()))
+                .request(request)
+                .build();
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    final class Builder extends ImmutableEndpointRenderPlan.Builder {}
+}
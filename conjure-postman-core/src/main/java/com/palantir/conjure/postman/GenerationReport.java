@@ -0,0 +1,107 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.tokens.auth.ImmutablesStyle;
+import java.util.List;
+import java.util.OptionalInt;
+import org.immutables.value.Value;
+
+/** Summary of a single generation, returned by the streaming {@link PostmanCollectionGenerator} methods. */
+@Value.Immutable
+@ImmutablesStyle
+@JsonSerialize(as = ImmutableGenerationReport.class)
+public interface GenerationReport {
+
+    /**
+     * Endpoints, as {@code Service.endpoint}, whose body or return template was cut down to fit
+     * {@link GeneratorConfiguration#templateBudget()}. Services reused from a {@link ServiceFolderCache} report the
+     * endpoints that were truncated when they were rendered.
+     */
+    List<String> truncatedEndpoints();
+
+    /**
+     * Render timings of each service, sorted by name. Only recorded when {@link GeneratorConfiguration#recordMetrics()}
+     * is set, and empty otherwise.
+     */
+    List<ServiceMetrics> services();
+
+    /** Number of type template expansions served from the generation's template cache. */
+    long templateCacheHits();
+
+    /** Number of type template expansions that had to be computed. */
+    long templateCacheMisses();
+
+    /** Number of body and return template serializations served from the template cache. */
+    long serializedTemplateHits();
+
+    /** Number of body and return template serializations that had to be computed. */
+    long serializedTemplateMisses();
+
+    @Value.Immutable
+    @ImmutablesStyle
+    @JsonSerialize(as = ImmutableServiceMetrics.class)
+    interface ServiceMetrics {
+
+        String name();
+
+        /** Whether the folder was read from a {@link ServiceFolderCache} instead of being rendered. */
+        boolean cached();
+
+        /** Wall-clock time spent rendering the folder, or reading it from the cache. */
+        long renderNanos();
+
+        /** Render timings of each endpoint, sorted by name. Empty for cached folders. */
+        List<EndpointMetrics> endpoints();
+
+        final class Builder extends ImmutableServiceMetrics.Builder {}
+
+        static Builder builder() {
+            return new Builder();
+        }
+    }
+
+    @Value.Immutable
+    @ImmutablesStyle
+    @JsonSerialize(as = ImmutableEndpointMetrics.class)
+    interface EndpointMetrics {
+
+        String name();
+
+        /** Wall-clock time spent rendering the request, including the templates it was first to expand. */
+        long renderNanos();
+
+        /** Number of JSON nodes in the body template, if the endpoint has a body. */
+        OptionalInt bodyTemplateNodes();
+
+        /** Number of JSON nodes in the return template, if the endpoint returns a value. */
+        OptionalInt returnsTemplateNodes();
+
+        final class Builder extends ImmutableEndpointMetrics.Builder {}
+
+        static Builder builder() {
+            return new Builder();
+        }
+    }
+
+    final class Builder extends ImmutableGenerationReport.Builder {}
+
+    static Builder builder() {
+        return new Builder();
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.palantir.conjure.postman;
 
+import com.google.common.base.Preconditions;
+import com.palantir.conjure.postman.visitor.TemplateBudget;
 import com.palantir.tokens.auth.ImmutablesStyle;
 import java.util.Optional;
 import org.immutables.value.Value;
@@ -32,6 +34,76 @@ public interface GeneratorConfiguration {
 
     Optional<String> apiPath();
 
+    /**
+     * Number of threads used to render services and endpoints. Defaults to {@code 1}, which renders sequentially on
+     * the calling thread; the generated collection is identical either way.
+     */
+    @Value.Default
+    default int parallelism() {
+        return 1;
+    }
+
+    /**
+     * Which descriptions of each request include the JSON template of the endpoint's return type. Defaults to
+     * {@link ReturnsTemplatePlacement#BOTH}.
+     */
+    @Value.Default
+    default ReturnsTemplatePlacement returnsTemplate() {
+        return ReturnsTemplatePlacement.BOTH;
+    }
+
+    /**
+     * Whether body and return templates are written as compact JSON instead of being pretty-printed. Defaults to
+     * {@code false}.
+     */
+    @Value.Default
+    default boolean compactTemplates() {
+        return false;
+    }
+
+    /**
+     * Whether the ids of the collection, its requests, events and variables are derived from their names, so that
+     * regenerating an unchanged definition produces an identical collection. Defaults to {@code false}, which assigns
+     * random ids. Only selects the default {@link #idProvider()}, so it has no effect when an id provider is set.
+     */
+    @Value.Default
+    default boolean deterministicIds() {
+        return false;
+    }
+
+    /**
+     * Assigns the ids of the generated collection. Defaults to {@link IdProvider#nameBased()} when
+     * {@link #deterministicIds()} is set, and otherwise to the process-wide {@link UuidProvider}. An id provider set
+     * explicitly overrides {@link #deterministicIds()}.
+     */
+    @Value.Default
+    default IdProvider idProvider() {
+        return deterministicIds()
+                ? IdProvider.nameBased()
+                : new KeyedIdProvider("uuidProvider", _path -> UuidProvider.getUuid());
+    }
+
+    /**
+     * Whether render timings and template sizes of each service and endpoint are recorded in the
+     * {@link GenerationReport}. Defaults to {@code false}. Recording does not change the generated collection.
+     */
+    @Value.Default
+    default boolean recordMetrics() {
+        return false;
+    }
+
+    /** Limits on the size of body and return templates. Unlimited by default. */
+    @Value.Default
+    default TemplateBudget templateBudget() {
+        return TemplateBudget.unlimited();
+    }
+
+    @SuppressWarnings("PreferSafeLoggingPreconditions")
+    @Value.Check
+    default void check() {
+        Preconditions.checkArgument(parallelism() >= 1, "parallelism must be at least 1");
+    }
+
     final class Builder extends ImmutableGeneratorConfiguration.Builder {}
 
     static Builder builder() {
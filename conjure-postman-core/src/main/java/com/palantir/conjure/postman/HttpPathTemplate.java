@@ -0,0 +1,82 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.conjure.postman.api.PostmanUrl;
+import com.palantir.conjure.spec.HttpPath;
+import java.util.List;
+
+/**
+ * An endpoint's {@link HttpPath} split into its segments once, from which the {@code raw} and {@code path} of its
+ * {@link PostmanUrl} are assembled. Path parameters such as {@code {id}} become Postman path variables such as
+ * {@code :id}; literal segments are kept as they are. Segments are always joined with {@code /}, regardless of the
+ * platform's file separator.
+ */
+final class HttpPathTemplate {
+
+    private static final String URL_PREFIX =
+            String.format("%s:%s/", PostmanUrl.HOSTNAME_VARIABLE, PostmanUrl.PORT_VARIABLE);
+
+    private final ImmutableList<String> segments;
+
+    private HttpPathTemplate(ImmutableList<String> segments) {
+        this.segments = segments;
+    }
+
+    static HttpPathTemplate of(HttpPath httpPath) {
+        ImmutableList.Builder<String> segments = ImmutableList.builder();
+        String path = httpPath.get();
+        int start = 0;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            if (end > start) {
+                segments.add(segment(path.substring(start, end)));
+            }
+            start = end + 1;
+        }
+        return new HttpPathTemplate(segments.build());
+    }
+
+    private static String segment(String segment) {
+        return segment.indexOf('{') < 0 ? segment : segment.replace('{', ':').replace("}", "");
+    }
+
+    /** Returns the full URL of the endpoint below {@code apiBaseVariable}, as {@code {{HOSTNAME}}:{{PORT}}/...}. */
+    String raw(String apiBaseVariable) {
+        StringBuilder raw =
+                new StringBuilder(URL_PREFIX).append(apiBaseVariable).append('/');
+        for (int i = 0; i < segments.size(); i++) {
+            if (i > 0) {
+                raw.append('/');
+            }
+            raw.append(segments.get(i));
+        }
+        return raw.toString();
+    }
+
+    /** Returns the segments of the URL path, starting with {@code apiBaseVariable}. */
+    List<String> path(String apiBaseVariable) {
+        return ImmutableList.<String>builderWithExpectedSize(segments.size() + 1)
+                .add(apiBaseVariable)
+                .addAll(segments)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Assigns the ids of the collection and its requests, events, scripts and variables. Each generation uses the provider
+ * of its {@link GeneratorConfiguration}, so generations with different providers can run concurrently. Providers may
+ * be called from several threads at once and must be thread-safe.
+ */
+@FunctionalInterface
+public interface IdProvider {
+
+    /**
+     * Returns the id of the element identified by {@code path}, such as {@code [product, service, endpoint]} for a
+     * request. Paths are unique within a collection.
+     */
+    UUID id(List<String> path);
+
+    /**
+     * Identifies the ids this provider assigns. Folders stored in a {@link ServiceFolderCache} are only reused by
+     * generations whose provider has the same key, so providers with equal keys must assign equal ids, or ids that are
+     * equally arbitrary. Defaults to the provider's class name, which for a lambda changes from one run to the next, so
+     * that folders are reused across runs only for providers that override it.
+     */
+    default String key() {
+        return getClass().getName();
+    }
+
+    /** Returns a new random id for every element. */
+    static IdProvider random() {
+        return new KeyedIdProvider("random", _path -> UUID.randomUUID());
+    }
+
+    /**
+     * Returns the version 5 (SHA-1, name-based) UUID of each element's path, so that an element keeps its id for as
+     * long as its path is unchanged.
+     */
+    static IdProvider nameBased() {
+        return NameBasedIdProvider.INSTANCE;
+    }
+
+    /** Returns {@code id} for every element. */
+    static IdProvider constant(UUID id) {
+        return new KeyedIdProvider("constant:" + id, _path -> id);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Assigns ids through {@code ids}, under a fixed {@link #key()}. */
+final class KeyedIdProvider implements IdProvider {
+
+    private final String key;
+    private final IdProvider ids;
+
+    KeyedIdProvider(String key, IdProvider ids) {
+        this.key = key;
+        this.ids = ids;
+    }
+
+    @Override
+    public UUID id(List<String> path) {
+        return ids.id(path);
+    }
+
+    @Override
+    public String key() {
+        return key;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.UUID;
+
+/** Derives version 5 UUIDs from element paths joined with {@code /}, as described by RFC 4122. */
+final class NameBasedIdProvider implements IdProvider {
+
+    static final NameBasedIdProvider INSTANCE = new NameBasedIdProvider();
+
+    private static final UUID NAMESPACE = UUID.fromString("8cd13945-dfc9-4c00-9b14-952b93211a97");
+    private static final byte[] NAMESPACE_BYTES = ByteBuffer.allocate(16)
+            .putLong(NAMESPACE.getMostSignificantBits())
+            .putLong(NAMESPACE.getLeastSignificantBits())
+            .array();
+
+    private NameBasedIdProvider() {}
+
+    @Override
+    public String key() {
+        return "nameBased";
+    }
+
+    @Override
+    public UUID id(List<String> path) {
+        MessageDigest sha1;
+        try {
+            sha1 = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        sha1.update(NAMESPACE_BYTES);
+        ByteBuffer hash = ByteBuffer.wrap(sha1.digest(String.join("/", path).getBytes(StandardCharsets.UTF_8)));
+        long mostSignificantBits = (hash.getLong() & ~0xF000L) | 0x5000L;
+        long leastSignificantBits = (hash.getLong() & ~(0xC000L << 48)) | (0x8000L << 48);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
@@ -16,18 +16,43 @@
 
 package com.palantir.conjure.postman;
 
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Streams;
 import com.palantir.conjure.postman.api.PostmanAuth;
 import com.palantir.conjure.postman.api.PostmanCollection;
 import com.palantir.conjure.postman.api.PostmanEvent;
 import com.palantir.conjure.postman.api.PostmanFolder;
 import com.palantir.conjure.postman.api.PostmanInformation;
+import com.palantir.conjure.postman.api.PostmanItem;
+import com.palantir.conjure.postman.api.PostmanRequest;
 import com.palantir.conjure.postman.api.PostmanUrl;
 import com.palantir.conjure.postman.api.PostmanVariable;
+import com.palantir.conjure.postman.visitor.TemplateCache;
+import com.palantir.conjure.postman.visitor.TypeRegistry;
+import com.palantir.conjure.postman.writer.PostmanCollectionFileWriter;
 import com.palantir.conjure.spec.ConjureDefinition;
 import com.palantir.conjure.spec.Documentation;
-import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.EndpointDefinition;
+import com.palantir.conjure.spec.ServiceDefinition;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public final class PostmanCollectionGenerator {
 
@@ -40,7 +65,192 @@ public final class PostmanCollectionGenerator {
     }
 
     public PostmanCollection generate(ConjureDefinition conjureDefinition) {
+        return generate(conjureDefinition, new TemplateCache(config.templateBudget()));
+    }
+
+    /**
+     * Generates a single collection holding the services of every definition of {@code project}. Types shared between
+     * definitions are indexed and expanded once, as if the definitions had been compiled together; see
+     * {@link ProjectContext#mergedDefinition()}.
+     */
+    public PostmanCollection generate(ProjectContext project) {
+        return generate(project.mergedDefinition());
+    }
+
+    /**
+     * Like {@link #generate(ProjectContext)}, but hands the collection to {@code writer} one folder at a time as
+     * {@link #generate(ConjureDefinition, PostmanCollectionFileWriter)} does.
+     */
+    public GenerationReport generate(ProjectContext project, PostmanCollectionFileWriter writer) {
+        return generate(project.mergedDefinition(), writer);
+    }
+
+    /**
+     * Generates a collection, expanding type templates through the given {@code templateCache}. Every endpoint
+     * referencing a type shares its template, and the cache's hit and miss counts can be inspected afterwards.
+     */
+    public PostmanCollection generate(ConjureDefinition conjureDefinition, TemplateCache templateCache) {
+        PostmanCollection.Builder collection = collectionBuilder();
+
+        Generation generation = new Generation(conjureDefinition, templateCache);
+        Supplier<List<PostmanItem>> folders = () ->
+                stream(conjureDefinition.getServices()).map(generation::folder).collect(Collectors.toList());
+        collection.addAllItems(config.parallelism() > 1 ? inParallel(folders) : folders.get());
+
+        return collection.build();
+    }
+
+    /**
+     * Generates a collection and hands it to {@code writer} with one folder per service, rendered lazily in the order
+     * the folders are serialized. With a {@link GeneratorConfiguration#parallelism()} above one, the folders of up to
+     * that many upcoming services are rendered concurrently ahead of the writer. A writer that streams its output, such
+     * as {@link com.palantir.conjure.postman.writer.DefaultPostmanCollectionFileWriter}, therefore only holds that many
+     * {@link PostmanFolder}s in memory at a time. The templates of referenced types are shared between services and
+     * bounded to {@link TemplateCache#DEFAULT_MAX_TEMPLATE_NODES} nodes, so they do not grow with the definition
+     * either.
+     */
+    public GenerationReport generate(ConjureDefinition conjureDefinition, PostmanCollectionFileWriter writer) {
+        return generate(conjureDefinition, writer, Optional.empty());
+    }
+
+    /**
+     * Like {@link #generate(ConjureDefinition, PostmanCollectionFileWriter)}, but reuses the folders stored in
+     * {@code folderCache} for services whose definition and referenced types are unchanged since they were stored.
+     * Entries not used by this generation are removed from the cache once the collection has been written.
+     */
+    public GenerationReport generate(
+            ConjureDefinition conjureDefinition, PostmanCollectionFileWriter writer, ServiceFolderCache folderCache) {
+        return generate(conjureDefinition, writer, Optional.of(folderCache));
+    }
+
+    private GenerationReport generate(
+            ConjureDefinition conjureDefinition,
+            PostmanCollectionFileWriter writer,
+            Optional<ServiceFolderCache> folderCache) {
+        PostmanCollection collection = collectionBuilder().build();
+
+        Generation generation = new Generation(conjureDefinition, streamingTemplateCache());
+        Function<ServiceDefinition, PostmanItem> folder = folderRenderer(generation, folderCache);
+        Stream<ServiceDefinition> services = conjureDefinition.getServices().stream()
+                .sorted(Comparator.comparing(service -> service.getServiceName().getName()));
+
+        if (config.parallelism() == 1) {
+            writer.write(collection, services.map(folder));
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(config.parallelism());
+            try {
+                writer.write(collection, renderAhead(services.iterator(), folder, pool));
+            } finally {
+                pool.shutdown();
+            }
+        }
+        folderCache.ifPresent(ServiceFolderCache::pruneStale);
+        return generation.report();
+    }
+
+    /**
+     * Generates one collection per service instead of a single collection for the whole definition. Each collection
+     * holds the service's folder together with the variables and events every collection shares, and is named after
+     * the product and the service. Collections are rendered and handed to {@code writer} concurrently, up to
+     * {@link GeneratorConfiguration#parallelism()} at a time, so {@code writer} must be safe to call from several
+     * threads.
+     */
+    public GenerationReport generatePerService(
+            ConjureDefinition conjureDefinition, PostmanCollectionFileWriter writer) {
+        return generatePerService(conjureDefinition, writer, Optional.empty());
+    }
+
+    /**
+     * Like {@link #generatePerService(ConjureDefinition, PostmanCollectionFileWriter)}, but reuses the folders stored in
+     * {@code folderCache} for services that are unchanged since they were stored.
+     */
+    public GenerationReport generatePerService(
+            ConjureDefinition conjureDefinition, PostmanCollectionFileWriter writer, ServiceFolderCache folderCache) {
+        return generatePerService(conjureDefinition, writer, Optional.of(folderCache));
+    }
+
+    private GenerationReport generatePerService(
+            ConjureDefinition conjureDefinition,
+            PostmanCollectionFileWriter writer,
+            Optional<ServiceFolderCache> folderCache) {
+        Generation generation = new Generation(conjureDefinition, streamingTemplateCache());
+        Function<ServiceDefinition, PostmanItem> folder = folderRenderer(generation, folderCache);
+        Consumer<ServiceDefinition> collection = service -> writer.write(collectionBuilder(String.format(
+                        "%s %s", config.productName(), service.getServiceName().getName()))
+                .addItems(folder.apply(service))
+                .build());
+
+        if (config.parallelism() == 1) {
+            conjureDefinition.getServices().forEach(collection);
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(config.parallelism());
+            try {
+                pool.submit(() ->
+                                conjureDefinition.getServices().parallelStream().forEach(collection))
+                        .join();
+            } finally {
+                pool.shutdown();
+            }
+        }
+        folderCache.ifPresent(ServiceFolderCache::pruneStale);
+        return generation.report();
+    }
+
+    /** Template cache for generations that hand their output to a writer rather than holding the whole collection. */
+    private TemplateCache streamingTemplateCache() {
+        return new TemplateCache(
+                config.templateBudget(),
+                TemplateCache.DEFAULT_MAX_SERIALIZED_CHARS,
+                TemplateCache.DEFAULT_MAX_TEMPLATE_NODES,
+                config.recordMetrics());
+    }
+
+    /**
+     * Returns the folders of {@code services} in order, rendering each on {@code pool} as soon as fewer than
+     * {@link GeneratorConfiguration#parallelism()} folders are pending, so rendering runs ahead of the consumer without
+     * ever holding more than that many folders.
+     */
+    private Stream<PostmanItem> renderAhead(
+            Iterator<ServiceDefinition> services, Function<ServiceDefinition, PostmanItem> folder, ForkJoinPool pool) {
+        Deque<ForkJoinTask<PostmanItem>> pending = new ArrayDeque<>();
+        return Streams.stream(new AbstractIterator<PostmanItem>() {
+            @Override
+            protected PostmanItem computeNext() {
+                while (pending.size() < config.parallelism() && services.hasNext()) {
+                    ServiceDefinition service = services.next();
+                    pending.addLast(pool.submit(() -> folder.apply(service)));
+                }
+                return pending.isEmpty() ? endOfData() : pending.removeFirst().join();
+            }
+        });
+    }
 
+    /** Renders each service's folder, or reads it from {@code folderCache} if the service is unchanged. */
+    private Function<ServiceDefinition, PostmanItem> folderRenderer(
+            Generation generation, Optional<ServiceFolderCache> folderCache) {
+        ServiceHasher hasher = new ServiceHasher(generation.types, renderingKey(generation.apiBaseVariable));
+        return service -> folderCache
+                .map(cache -> generation.cachedFolder(service, renderer -> cache.get(hasher.hash(service), renderer)))
+                .orElseGet(() -> generation.folder(service));
+    }
+
+    /** Joins every setting that changes how a service's folder renders, for {@link ServiceHasher}. */
+    private String renderingKey(String apiBaseVariable) {
+        return String.join(
+                "\n",
+                config.productName(),
+                apiBaseVariable,
+                config.returnsTemplate().name(),
+                String.valueOf(config.compactTemplates()),
+                config.idProvider().key(),
+                config.templateBudget().toString());
+    }
+
+    private PostmanCollection.Builder collectionBuilder() {
+        return collectionBuilder(config.productName());
+    }
+
+    private PostmanCollection.Builder collectionBuilder(String name) {
         PostmanCollection.Builder collection = PostmanCollection.builder();
 
         String productDescription = String.format("# %s %s", config.productName(), config.productVersion());
@@ -50,50 +260,206 @@ public final class PostmanCollectionGenerator {
         }
 
         collection.info(PostmanInformation.builder()
-                .name(config.productName())
+                .name(name)
                 .version(config.productVersion())
                 .description(productDescription)
-                .postmanId(UuidProvider.getUuid().toString())
+                .postmanId(id(name))
                 .schema(POSTMAN_SCHEMA)
                 .build());
 
         collection.auth(PostmanAuth.builder().build());
 
-        collection.addEvent(PostmanEvent.Test.of(PostmanEvent.Script.NON_ERROR_STATUS));
-        collection.addEvent(PostmanEvent.Test.of(PostmanEvent.Script.RESPONSE_IS_JSON));
+        collection.addEvent(testEvent(name, "nonErrorStatus", PostmanEvent.Script.NON_ERROR_STATUS));
+        collection.addEvent(testEvent(name, "responseIsJson", PostmanEvent.Script.RESPONSE_IS_JSON));
 
         collection.addVariable(PostmanVariable.builder()
+                .id(id(name, "variable", "PORT"))
                 .key("PORT")
                 .name("PORT")
                 .value(443)
                 .type(PostmanVariable.Type.NUMBER)
                 .build());
 
-        String formattedApiBaseVariable = PostmanUrl.formatApiBase(config.productName());
-        String formattedApiBaseName = formattedApiBaseVariable.replaceAll("[{}]", "");
+        String formattedApiBaseName =
+                PostmanUrl.formatApiBase(config.productName()).replaceAll("[{}]", "");
         config.apiPath()
                 .ifPresent(apiPath -> collection.addVariable(PostmanVariable.builder()
+                        .id(id(name, "variable", formattedApiBaseName))
                         .key(formattedApiBaseName)
                         .name(formattedApiBaseName)
                         .value(apiPath)
                         .type(PostmanVariable.Type.STRING)
                         .build()));
 
-        List<TypeDefinition> allTypes = conjureDefinition.getTypes();
-        PostmanRequestGenerator requestGenerator = new PostmanRequestGenerator();
-        collection.addAllItems(conjureDefinition.getServices().stream()
-                .map(service -> {
-                    PostmanFolder.Builder folder = PostmanFolder.builder();
-                    folder.name(service.getServiceName().getName());
-                    folder.description(service.getDocs().map(Documentation::get));
-                    folder.addAllItems(service.getEndpoints().stream()
-                            .map(endpoint ->
-                                    requestGenerator.generateRequest(formattedApiBaseVariable, allTypes, endpoint))
-                            .collect(Collectors.toList()));
-                    return folder.build();
-                })
-                .collect(Collectors.toList()));
+        return collection;
+    }
 
-        return collection.build();
+    private PostmanEvent testEvent(String collectionName, String eventName, PostmanEvent.Script script) {
+        return PostmanEvent.Test.builder()
+                .id(id(collectionName, "event", eventName))
+                .script(PostmanEvent.Script.builder()
+                        .from(script)
+                        .id(id(collectionName, "event", eventName, "script"))
+                        .build())
+                .build();
+    }
+
+    /** Returns the id that {@link GeneratorConfiguration#idProvider()} assigns to the element at {@code path}. */
+    private String id(String... path) {
+        return config.idProvider().id(List.of(path)).toString();
+    }
+
+    private <T> Stream<T> stream(List<T> values) {
+        return config.parallelism() > 1 ? values.parallelStream() : values.stream();
+    }
+
+    /**
+     * Runs {@code task} on a dedicated {@link ForkJoinPool} sized to {@link GeneratorConfiguration#parallelism()}, so
+     * the parallel streams it opens are confined to that pool. Ordered collection keeps the output identical to
+     * sequential generation.
+     */
+    private <T> T inParallel(Supplier<T> task) {
+        ForkJoinPool pool = new ForkJoinPool(config.parallelism());
+        try {
+            return pool.submit(task::get).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** State shared by every folder rendered in a single generation. */
+    private final class Generation {
+        private final TypeRegistry types;
+        private final TemplateCache templateCache;
+        private final String apiBaseVariable = PostmanUrl.formatApiBase(config.productName());
+        private final PostmanRequestGenerator requestGenerator = new PostmanRequestGenerator(config);
+        private final Set<String> truncatedEndpoints = ConcurrentHashMap.newKeySet();
+        private final Queue<GenerationReport.ServiceMetrics> serviceMetrics = new ConcurrentLinkedQueue<>();
+
+        private Generation(ConjureDefinition conjureDefinition, TemplateCache templateCache) {
+            this.types = TypeRegistry.of(conjureDefinition.getTypes());
+            this.templateCache = templateCache;
+        }
+
+        private PostmanItem folder(ServiceDefinition service) {
+            return render(service).folder();
+        }
+
+        /** Renders the folder of {@code service}, reporting the endpoints whose templates were truncated in it. */
+        private ServiceFolderCache.FolderEntry render(ServiceDefinition service) {
+            ServiceRenderEvent event = new ServiceRenderEvent();
+            event.begin();
+            long start = System.nanoTime();
+            Queue<GenerationReport.EndpointMetrics> endpointMetrics = new ConcurrentLinkedQueue<>();
+            Queue<String> truncated = new ConcurrentLinkedQueue<>();
+            PostmanFolder.Builder folder = PostmanFolder.builder();
+            folder.name(service.getServiceName().getName());
+            folder.description(service.getDocs().map(Documentation::get));
+            folder.addAllItems(stream(service.getEndpoints())
+                    .map(endpoint -> request(service, endpoint, endpointMetrics, truncated))
+                    .collect(Collectors.toList()));
+            PostmanFolder built = folder.build();
+            truncatedEndpoints.addAll(truncated);
+            if (config.recordMetrics()) {
+                serviceMetrics.add(GenerationReport.ServiceMetrics.builder()
+                        .name(service.getServiceName().getName())
+                        .cached(false)
+                        .renderNanos(System.nanoTime() - start)
+                        .endpoints(endpointMetrics.stream()
+                                .sorted(Comparator.comparing(GenerationReport.EndpointMetrics::name))
+                                .collect(Collectors.toList()))
+                        .build());
+            }
+            commit(event, service, false);
+            return ImmutableFolderEntry.of(built, truncated.stream().sorted().collect(Collectors.toList()));
+        }
+
+        /**
+         * Returns the folder of {@code service} as looked up by {@code cache}, which is handed the renderer to fall back
+         * on. A folder that did not have to be rendered is recorded as cached, with the truncated endpoints stored
+         * alongside it.
+         */
+        private PostmanItem cachedFolder(
+                ServiceDefinition service,
+                Function<Supplier<ServiceFolderCache.FolderEntry>, ServiceFolderCache.FolderEntry> cache) {
+            ServiceRenderEvent event = new ServiceRenderEvent();
+            event.begin();
+            long start = System.nanoTime();
+            AtomicBoolean rendered = new AtomicBoolean();
+            ServiceFolderCache.FolderEntry entry = cache.apply(() -> {
+                rendered.set(true);
+                return render(service);
+            });
+            if (!rendered.get()) {
+                truncatedEndpoints.addAll(entry.truncatedEndpoints());
+                if (config.recordMetrics()) {
+                    serviceMetrics.add(GenerationReport.ServiceMetrics.builder()
+                            .name(service.getServiceName().getName())
+                            .cached(true)
+                            .renderNanos(System.nanoTime() - start)
+                            .build());
+                }
+                commit(event, service, true);
+            }
+            return entry.folder();
+        }
+
+        private void commit(ServiceRenderEvent event, ServiceDefinition service, boolean cached) {
+            if (event.shouldCommit()) {
+                event.service = service.getServiceName().getName();
+                event.endpoints = service.getEndpoints().size();
+                event.cached = cached;
+                event.commit();
+            }
+        }
+
+        private PostmanRequest request(
+                ServiceDefinition service,
+                EndpointDefinition endpoint,
+                Queue<GenerationReport.EndpointMetrics> endpointMetrics,
+                Queue<String> truncated) {
+            long start = System.nanoTime();
+            PostmanRequest request = requestGenerator.generateRequest(
+                    apiBaseVariable,
+                    types,
+                    templateCache,
+                    endpoint,
+                    id(
+                            config.productName(),
+                            service.getServiceName().getName(),
+                            endpoint.getEndpointName().get()));
+            if (PostmanRequestGenerator.hasTruncatedTemplate(endpoint, templateCache)) {
+                truncated.add(String.format(
+                        "%s.%s",
+                        service.getServiceName().getName(),
+                        endpoint.getEndpointName().get()));
+            }
+            if (config.recordMetrics()) {
+                endpointMetrics.add(GenerationReport.EndpointMetrics.builder()
+                        .name(endpoint.getEndpointName().get())
+                        .renderNanos(System.nanoTime() - start)
+                        .bodyTemplateNodes(PostmanRequestGenerator.getBodyType(endpoint)
+                                .map(templateCache::templateNodes)
+                                .orElseGet(OptionalInt::empty))
+                        .returnsTemplateNodes(endpoint.getReturns()
+                                .map(templateCache::templateNodes)
+                                .orElseGet(OptionalInt::empty))
+                        .build());
+            }
+            return request;
+        }
+
+        private GenerationReport report() {
+            return GenerationReport.builder()
+                    .truncatedEndpoints(truncatedEndpoints.stream().sorted().collect(Collectors.toList()))
+                    .services(serviceMetrics.stream()
+                            .sorted(Comparator.comparing(GenerationReport.ServiceMetrics::name))
+                            .collect(Collectors.toList()))
+                    .templateCacheHits(templateCache.hits())
+                    .templateCacheMisses(templateCache.misses())
+                    .serializedTemplateHits(templateCache.serializedHits())
+                    .serializedTemplateMisses(templateCache.serializedMisses())
+                    .build();
+        }
     }
 }
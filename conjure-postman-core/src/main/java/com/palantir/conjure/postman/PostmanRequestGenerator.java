@@ -16,21 +16,22 @@
 
 package com.palantir.conjure.postman;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableList;
 import com.google.common.net.HttpHeaders;
 import com.palantir.conjure.postman.api.PostmanRequest;
 import com.palantir.conjure.postman.api.PostmanUrl;
 import com.palantir.conjure.postman.visitor.BodyParameterTypeVisitor;
 import com.palantir.conjure.postman.visitor.DefaultParameterTypeVisitor;
+import com.palantir.conjure.postman.visitor.TemplateCache;
 import com.palantir.conjure.postman.visitor.TemplateTypeVisitor;
 import com.palantir.conjure.postman.visitor.TypeNameFormatterVisitor;
+import com.palantir.conjure.postman.visitor.TypeRegistry;
+import com.palantir.conjure.spec.ArgumentDefinition;
 import com.palantir.conjure.spec.Documentation;
 import com.palantir.conjure.spec.EndpointDefinition;
 import com.palantir.conjure.spec.HeaderParameterType;
-import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.Type;
 import com.palantir.conjure.visitor.ParameterTypeVisitor;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -44,24 +45,53 @@ public final class PostmanRequestGenerator {
     private static final ImmutableList<PostmanRequest.Header> DEFAULT_HEADERS =
             ImmutableList.of(PostmanRequest.Header.of(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON));
 
-    PostmanRequestGenerator() {}
+    private final ReturnsTemplatePlacement returnsTemplatePlacement;
+    private final boolean compactTemplates;
+
+    PostmanRequestGenerator(GeneratorConfiguration config) {
+        this.returnsTemplatePlacement = config.returnsTemplate();
+        this.compactTemplates = config.compactTemplates();
+    }
 
     public PostmanRequest generateRequest(
-            String apiBaseVariable, List<TypeDefinition> types, EndpointDefinition endpointDefinition) {
+            String apiBaseVariable,
+            TypeRegistry types,
+            TemplateCache templateCache,
+            EndpointDefinition endpointDefinition,
+            String id) {
+        return plan(apiBaseVariable, types, templateCache, endpointDefinition).toRequest(returnsTemplatePlacement, id);
+    }
 
-        PostmanRequest.Request request = PostmanRequest.Request.builder()
+    private EndpointRenderPlan plan(
+            String apiBaseVariable,
+            TypeRegistry types,
+            TemplateCache templateCache,
+            EndpointDefinition endpointDefinition) {
+        return EndpointRenderPlan.builder()
+                .name(getName(endpointDefinition))
                 .url(getUrl(apiBaseVariable, endpointDefinition))
                 .method(getMethod(endpointDefinition))
-                .header(getHeaders(endpointDefinition))
-                .description(getDocs(endpointDefinition, types))
-                .body(getBody(endpointDefinition, types))
+                .headers(getHeaders(endpointDefinition))
+                .body(getBody(endpointDefinition, types, templateCache))
+                .docs(getDocs(endpointDefinition, types))
+                .returnsTemplate(getReturnsTemplate(endpointDefinition, types, templateCache))
                 .build();
+    }
 
-        return PostmanRequest.builder()
-                .name(getName(endpointDefinition))
-                .description(getDocs(endpointDefinition, types))
-                .request(request)
-                .build();
+    /**
+     * Returns whether the body or return template of {@code endpointDefinition} was cut down to fit the budget of
+     * {@code templateCache}. Only meaningful once the endpoint has been rendered through that cache.
+     */
+    static boolean hasTruncatedTemplate(EndpointDefinition endpointDefinition, TemplateCache templateCache) {
+        return Stream.concat(getBodyType(endpointDefinition).stream(), endpointDefinition.getReturns().stream())
+                .anyMatch(templateCache::isTruncated);
+    }
+
+    static Optional<Type> getBodyType(EndpointDefinition endpointDefinition) {
+        return endpointDefinition.getArgs().stream()
+                .filter(arg -> arg.getParamType().accept(ParameterTypeVisitor.IS_BODY))
+                .map(ArgumentDefinition::getType)
+                .findFirst();
     }
 
     private static String getName(EndpointDefinition endpointDefinition) {
@@ -71,26 +101,25 @@ public final class PostmanRequestGenerator {
         return name.toString();
     }
 
-    private static Optional<String> getDocs(EndpointDefinition endpointDefinition, List<TypeDefinition> types) {
-
+    private static List<String> getDocs(EndpointDefinition endpointDefinition, TypeRegistry types) {
         List<String> docs = new ArrayList<>();
         endpointDefinition.getDocs().ifPresent(documentation -> docs.add(documentation.get()));
         endpointDefinition
                 .getDeprecated()
                 .ifPresent(documentation -> docs.add(String.format("**Deprecation:** %s", documentation.get())));
-        endpointDefinition.getReturns().ifPresent(type -> {
-            docs.add(String.format("**Returns:** %s", type.accept(new TypeNameFormatterVisitor(types))));
-            try {
-                docs.add(String.format(
-                        "```json\n%s\n```",
-                        TemplateTypeVisitor.getObjectMapper()
-                                .writeValueAsString(type.accept(new TemplateTypeVisitor(types)))));
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException(e);
-            }
-        });
-
-        return docs.size() > 0 ? Optional.of(String.join("\n\n", docs)) : Optional.empty();
+        endpointDefinition
+                .getReturns()
+                .ifPresent(type ->
+                        docs.add(String.format("**Returns:** %s", type.accept(new TypeNameFormatterVisitor(types)))));
+        return docs;
+    }
+
+    private Optional<String> getReturnsTemplate(
+            EndpointDefinition endpointDefinition, TypeRegistry types, TemplateCache templateCache) {
+        return endpointDefinition
+                .getReturns()
+                .map(type -> String.format(
+                        "```json\n%s\n```", writeTemplate(new TemplateTypeVisitor(types, templateCache), type)));
     }
 
     private static PostmanRequest.Request.Method getMethod(EndpointDefinition endpointDefinition) {
@@ -98,27 +127,14 @@ public final class PostmanRequestGenerator {
                 endpointDefinition.getHttpMethod().toString());
     }
 
-    /**
-     * Given a {@code contextPath} and {@link EndpointDefinition}, returns the fully-qualified path to the endpoint.
-     * Path parameters are converted to Postman variables.
-     */
-    private static String getPath(String apiBaseVariable, EndpointDefinition endpointDefinition) {
-        String path = Paths.get(apiBaseVariable)
-                .resolve(endpointDefinition.getHttpPath().get())
-                .toString();
-        return path.replaceAll("\\{", ":").replaceAll("}", "");
-    }
-
     /**
      * Coverts a {@code path} and {@code query} to a URL. The hostname is stored as the
      * {@link PostmanUrl#HOSTNAME_VARIABLE} Postman pathParam.
      */
     private static PostmanUrl getUrl(String apiBaseVariable, EndpointDefinition endpointDefinition) {
-        String path = getPath(apiBaseVariable, endpointDefinition);
-        String raw = String.format(
-                "%s:%s/%s%s", PostmanUrl.HOSTNAME_VARIABLE, PostmanUrl.PORT_VARIABLE, apiBaseVariable, path);
-
-        PostmanUrl.Builder url = PostmanUrl.builder().raw(raw);
+        HttpPathTemplate path = HttpPathTemplate.of(endpointDefinition.getHttpPath());
+        PostmanUrl.Builder url =
+                PostmanUrl.builder().raw(path.raw(apiBaseVariable)).path(path.path(apiBaseVariable));
 
         url.addAllPathParam(endpointDefinition.getArgs().stream()
                 .filter(arg -> arg.getParamType().accept(ParameterTypeVisitor.IS_PATH))
@@ -164,12 +180,17 @@ public final class PostmanRequestGenerator {
                 .collect(Collectors.toList());
     }
 
-    private static Optional<PostmanRequest.Body> getBody(
-            EndpointDefinition endpointDefinition, List<TypeDefinition> types) {
+    private String writeTemplate(TemplateTypeVisitor visitor, Type type) {
+        return compactTemplates ? visitor.writeCompactTemplate(type) : visitor.writeTemplate(type);
+    }
+
+    private Optional<PostmanRequest.Body> getBody(
+            EndpointDefinition endpointDefinition, TypeRegistry types, TemplateCache templateCache) {
         return endpointDefinition.getArgs().stream()
                 .map(argumentDefinition -> argumentDefinition
                         .getParamType()
-                        .accept(new BodyParameterTypeVisitor(argumentDefinition, types)))
+                        .accept(new BodyParameterTypeVisitor(
+                                argumentDefinition, types, templateCache, compactTemplates)))
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .findFirst();
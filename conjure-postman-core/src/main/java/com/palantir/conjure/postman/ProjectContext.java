@@ -21,6 +21,10 @@ import com.palantir.tokens.auth.ImmutablesStyle;
 import java.util.List;
 import org.immutables.value.Value;
 
+/**
+ * A product composed of several IR files. {@link PostmanCollectionGenerator#generate(ProjectContext)} renders every
+ * service of every definition into a single collection.
+ */
 @Value.Immutable
 @ImmutablesStyle
 public interface ProjectContext {
@@ -34,6 +38,18 @@ public interface ProjectContext {
     @Value.Parameter
     List<ConjureDefinition> conjureDefinitions();
 
+    /**
+     * The {@link #conjureDefinitions()} merged into one definition holding each distinct type and service once.
+     * Identical definitions of a type, such as those of a dependency shared by several IR files, are indexed and
+     * expanded once. Errors and extensions are not used by the generator and are not carried over.
+     *
+     * @throws IllegalArgumentException if two definitions define the same type or service differently
+     */
+    @Value.Lazy
+    default ConjureDefinition mergedDefinition() {
+        return DefinitionMerger.merge(conjureDefinitions());
+    }
+
     static ProjectContext of(String project, String contextPath, List<ConjureDefinition> conjureDefinitions) {
         return ImmutableProjectContext.of(project, contextPath, conjureDefinitions);
     }
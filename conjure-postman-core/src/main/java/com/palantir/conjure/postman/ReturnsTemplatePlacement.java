@@ -0,0 +1,39 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+/**
+ * Which descriptions of a generated request include the JSON template of the endpoint's return type. Every request is
+ * described twice, once on the collection item and once on the request itself; for endpoints returning large types
+ * the template dominates the size of the collection.
+ */
+public enum ReturnsTemplatePlacement {
+    /** Include the template in both the item and the request description. */
+    BOTH,
+    /** Include the template only in the item description. */
+    ITEM,
+    /** Include the template only in the request description. */
+    REQUEST;
+
+    boolean inItem() {
+        return this != REQUEST;
+    }
+
+    boolean inRequest() {
+        return this != ITEM;
+    }
+}
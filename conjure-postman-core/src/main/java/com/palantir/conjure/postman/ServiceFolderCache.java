@@ -0,0 +1,157 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Streams;
+import com.palantir.conjure.postman.api.PostmanItem;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.immutables.value.Value;
+
+/**
+ * Directory of previously rendered service folders, stored as one JSON file per service content hash (see
+ * {@link ServiceHasher}). Services whose hash is unchanged since the last generation are written from their stored
+ * JSON instead of being rendered again. Each entry also records which of the service's endpoints had their templates
+ * truncated, so that reused services are reported the same as rendered ones.
+ *
+ * A directory should only be used for a single collection, since {@link #pruneStale()} removes every entry the
+ * latest generation did not use.
+ */
+public final class ServiceFolderCache {
+
+    private static final ObjectMapper mapper = new ObjectMapper().registerModule(new Jdk8Module());
+    private static final String EXTENSION = ".json";
+    private static final String FOLDER = "folder";
+    private static final String TRUNCATED_ENDPOINTS = "truncatedEndpoints";
+
+    private final Path directory;
+    private final Set<String> retained = ConcurrentHashMap.newKeySet();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder rendered = new LongAdder();
+
+    public ServiceFolderCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /** Returns the stored entry for {@code hash}, rendering and storing it with {@code renderer} if absent. */
+    FolderEntry get(String hash, Supplier<FolderEntry> renderer) {
+        retained.add(hash);
+        Path path = directory.resolve(hash + EXTENSION);
+        Optional<FolderEntry> stored = read(path);
+        if (stored.isPresent()) {
+            reused.increment();
+            return stored.get();
+        }
+        FolderEntry entry = renderer.get();
+        store(path, entry);
+        rendered.increment();
+        return entry;
+    }
+
+    /** Reads the entry at {@code path}. Missing, unreadable and incomplete entries are empty and overwritten. */
+    private static Optional<FolderEntry> read(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode entry = mapper.readTree(path.toFile());
+            JsonNode folder = entry.path(FOLDER);
+            JsonNode truncatedEndpoints = entry.path(TRUNCATED_ENDPOINTS);
+            if (!folder.isObject() || !truncatedEndpoints.isArray()) {
+                return Optional.empty();
+            }
+            return Optional.of(ImmutableFolderEntry.of(
+                    new CachedPostmanFolder(folder),
+                    Streams.stream(truncatedEndpoints.elements())
+                            .map(JsonNode::asText)
+                            .collect(Collectors.toList())));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /** Deletes every entry that was not used since this cache was created. */
+    void pruneStale() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> entries = Files.list(directory)) {
+            List<Path> stale = entries.filter(path -> {
+                        String fileName = path.getFileName().toString();
+                        return fileName.endsWith(EXTENSION)
+                                && !retained.contains(fileName.substring(0, fileName.length() - EXTENSION.length()));
+                    })
+                    .collect(Collectors.toList());
+            for (Path path : stale) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Number of services written from a stored folder. */
+    public long reused() {
+        return reused.sum();
+    }
+
+    /** Number of services that had to be rendered. */
+    public long rendered() {
+        return rendered.sum();
+    }
+
+    private void store(Path path, FolderEntry entry) {
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try (OutputStream os = Files.newOutputStream(temp)) {
+                mapper.writeValue(
+                        os, ImmutableMap.of(TRUNCATED_ENDPOINTS, entry.truncatedEndpoints(), FOLDER, entry.folder()));
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** A service's folder, and the endpoints, as {@code Service.endpoint}, whose templates were truncated in it. */
+    @Value.Immutable
+    interface FolderEntry {
+
+        @Value.Parameter
+        PostmanItem folder();
+
+        @Value.Parameter
+        List<String> truncatedEndpoints();
+    }
+}
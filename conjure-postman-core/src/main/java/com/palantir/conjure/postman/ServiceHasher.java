@@ -0,0 +1,91 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.palantir.conjure.postman.visitor.TypeRegistry;
+import com.palantir.conjure.spec.ArgumentDefinition;
+import com.palantir.conjure.spec.ServiceDefinition;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeName;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Computes a stable content hash for each service: its definition, every type definition it transitively
+ * references, and the generator settings that affect how its folder renders. Two services with the same hash render
+ * to the same {@link com.palantir.conjure.postman.api.PostmanFolder}, apart from generated ids.
+ */
+final class ServiceHasher {
+
+    private static final ObjectMapper canonicalMapper = JsonMapper.builder()
+            .addModule(new Jdk8Module())
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+    private static final String GENERATOR_VERSION = Optional.ofNullable(
+                    ServiceHasher.class.getPackage().getImplementationVersion())
+            .orElse("unknown");
+
+    private final TypeRegistry types;
+    private final String renderingKey;
+
+    /**
+     * @param renderingKey every generator setting that changes how a folder renders, so that changing one of them
+     *     invalidates previously rendered folders.
+     */
+    ServiceHasher(TypeRegistry types, String renderingKey) {
+        this.types = types;
+        this.renderingKey = renderingKey;
+    }
+
+    String hash(ServiceDefinition service) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(GENERATOR_VERSION, StandardCharsets.UTF_8);
+        hasher.putString(renderingKey, StandardCharsets.UTF_8);
+        putCanonical(hasher, service);
+
+        List<Type> roots = service.getEndpoints().stream()
+                .flatMap(endpoint -> Stream.concat(
+                        endpoint.getArgs().stream().map(ArgumentDefinition::getType), endpoint.getReturns().stream()))
+                .collect(Collectors.toList());
+        types.transitiveReferences(roots).stream()
+                .sorted(Comparator.comparing(TypeName::getPackage).thenComparing(TypeName::getName))
+                .forEach(typeName -> putCanonical(hasher, types.get(typeName)));
+
+        return hasher.hash().toString();
+    }
+
+    private static void putCanonical(Hasher hasher, Object value) {
+        try {
+            hasher.putBytes(canonicalMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Flight Recorder event spanning the rendering of one service's folder, or reading it from the folder cache. */
+@Name("com.palantir.conjure.postman.ServiceRender")
+@Label("Service Render")
+@Category("Conjure Postman")
+@Description("Renders the folder of a single service, including every endpoint and template it is first to expand")
+final class ServiceRenderEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Endpoints")
+    int endpoints;
+
+    @Label("Cached")
+    @Description("Whether the folder was read from the incremental folder cache instead of being rendered")
+    boolean cached;
+}
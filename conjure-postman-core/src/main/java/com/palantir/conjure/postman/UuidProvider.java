@@ -18,12 +18,17 @@ package com.palantir.conjure.postman;
 
 import java.util.UUID;
 
+/**
+ * Process-wide source of the ids that the {@code api} value types fall back to when none is set, and of the ids
+ * assigned by generations whose {@link GeneratorConfiguration#idProvider()} is left at its default. Kept for
+ * compatibility; prefer configuring an {@link IdProvider} per generation.
+ */
 public abstract class UuidProvider {
 
     /*
      * Set to `false` for testing purposes.
      */
-    private static boolean useRandom = true;
+    private static volatile boolean useRandom = true;
 
     public static void setUseRandom(boolean useRandom) {
         UuidProvider.useRandom = useRandom;
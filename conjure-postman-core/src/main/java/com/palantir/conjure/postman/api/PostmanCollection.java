@@ -19,7 +19,6 @@ package com.palantir.conjure.postman.api;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
-import com.palantir.conjure.postman.jackson.SortedListJsonSerializer;
 import java.util.List;
 import java.util.Optional;
 import org.immutables.value.Value;
@@ -35,7 +34,7 @@ public interface PostmanCollection {
     @Value.Parameter
     PostmanInformation info();
 
-    @JsonSerialize(using = SortedListJsonSerializer.class)
+    /** Items sorted by name. */
     List<PostmanItem> items();
 
     List<PostmanVariable> variable();
@@ -43,6 +42,13 @@ public interface PostmanCollection {
     @JsonProperty
     List<PostmanEvent> event();
 
+    @Value.Check
+    default PostmanCollection sortItems() {
+        return PostmanItems.isSorted(items())
+                ? this
+                : builder().from(this).items(PostmanItems.sorted(items())).build();
+    }
+
     static Builder builder() {
         return new Builder();
     }
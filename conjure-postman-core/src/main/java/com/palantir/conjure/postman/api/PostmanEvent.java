@@ -102,6 +102,8 @@ public interface PostmanEvent {
     }
 
     @Value.Immutable
+    @JsonDeserialize(as = ImmutableScript.class)
+    @JsonSerialize(as = ImmutableScript.class)
     interface Script {
 
         Script NON_ERROR_STATUS = Script.of(
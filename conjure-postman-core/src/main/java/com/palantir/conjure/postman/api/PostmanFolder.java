@@ -18,7 +18,6 @@ package com.palantir.conjure.postman.api;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
-import com.palantir.conjure.postman.jackson.SortedListJsonSerializer;
 import java.util.List;
 import org.immutables.value.Value;
 
@@ -31,9 +30,16 @@ public interface PostmanFolder extends PostmanItem {
     @Value.Parameter
     String name();
 
-    @JsonSerialize(using = SortedListJsonSerializer.class)
+    /** Items sorted by name. */
     List<PostmanItem> items();
 
+    @Value.Check
+    default PostmanFolder sortItems() {
+        return PostmanItems.isSorted(items())
+                ? this
+                : builder().from(this).items(PostmanItems.sorted(items())).build();
+    }
+
     static Builder builder() {
         return new Builder();
     }
@@ -0,0 +1,46 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.api;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Orders the items of collections and folders by name. Both sort their items when they are built, so serialization
+ * writes them in the order they are held.
+ */
+final class PostmanItems {
+
+    private static final Comparator<PostmanItem> BY_NAME = Comparator.comparing(PostmanItem::name);
+
+    private PostmanItems() {}
+
+    static boolean isSorted(List<PostmanItem> items) {
+        for (int i = 1; i < items.size(); i++) {
+            if (BY_NAME.compare(items.get(i - 1), items.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns {@code items} sorted by name. Items with the same name keep their relative order. */
+    static List<PostmanItem> sorted(List<PostmanItem> items) {
+        return items.stream().sorted(BY_NAME).collect(Collectors.toList());
+    }
+}
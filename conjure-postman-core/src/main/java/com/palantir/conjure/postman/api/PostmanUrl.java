@@ -17,6 +17,7 @@
 package com.palantir.conjure.postman.api;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.collect.ImmutableList;
@@ -27,6 +28,7 @@ import org.immutables.value.Value;
 @Value.Immutable
 @JsonDeserialize(as = ImmutablePostmanUrl.class)
 @JsonSerialize(as = ImmutablePostmanUrl.class)
+@JsonPropertyOrder({"raw", "host", "port", "path"})
 public interface PostmanUrl {
     String HOSTNAME_VARIABLE = "{{HOSTNAME}}";
     String PORT_VARIABLE = "{{PORT}}";
@@ -50,6 +52,8 @@ public interface PostmanUrl {
         return PORT_VARIABLE;
     }
 
+    /** Segments of the URL path. Derived from {@link #raw()} if not set. */
+    @Value.Default
     @JsonProperty
     default List<String> path() {
         return ImmutableList.copyOf(raw().replace("{{HOSTNAME}}:{{PORT}}/", "").split("/"));
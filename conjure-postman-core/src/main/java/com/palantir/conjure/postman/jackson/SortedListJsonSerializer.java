@@ -1,36 +0,0 @@
-/*
- * (c) Copyright 2018 Palantir Technologies Inc. All rights reserved.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *     http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-
-package com.palantir.conjure.postman.jackson;
-
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.JsonSerializer;
-import com.fasterxml.jackson.databind.SerializerProvider;
-import com.palantir.conjure.postman.api.PostmanItem;
-import java.io.IOException;
-import java.util.Comparator;
-import java.util.List;
-import java.util.stream.Collectors;
-
-public final class SortedListJsonSerializer extends JsonSerializer<List<PostmanItem>> {
-
-    @Override
-    public void serialize(List<PostmanItem> value, JsonGenerator gen, SerializerProvider _serializers)
-            throws IOException {
-        gen.writeObject(
-                value.stream().sorted(Comparator.comparing(PostmanItem::name)).collect(Collectors.toList()));
-    }
-}
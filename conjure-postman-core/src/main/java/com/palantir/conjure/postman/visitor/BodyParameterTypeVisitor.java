@@ -16,8 +16,6 @@
 
 package com.palantir.conjure.postman.visitor;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.palantir.conjure.postman.api.PostmanRequest;
 import com.palantir.conjure.spec.ArgumentDefinition;
 import com.palantir.conjure.spec.BodyParameterType;
@@ -36,17 +34,31 @@ import java.util.Optional;
 public final class BodyParameterTypeVisitor extends DefaultParameterTypeVisitor<Optional<PostmanRequest.Body>> {
 
     private final ArgumentDefinition argumentDefinition;
-    private final List<TypeDefinition> types;
+    private final TypeRegistry types;
+    private final TemplateCache cache;
+    private final boolean compact;
 
     public BodyParameterTypeVisitor(ArgumentDefinition argumentDefinition, List<TypeDefinition> types) {
+        this(argumentDefinition, TypeRegistry.of(types), new TemplateCache());
+    }
+
+    public BodyParameterTypeVisitor(ArgumentDefinition argumentDefinition, TypeRegistry types, TemplateCache cache) {
+        this(argumentDefinition, types, cache, false);
+    }
+
+    /** @param compact whether to write the body template as compact JSON instead of pretty-printing it. */
+    public BodyParameterTypeVisitor(
+            ArgumentDefinition argumentDefinition, TypeRegistry types, TemplateCache cache, boolean compact) {
         super(Optional.empty());
         this.argumentDefinition = argumentDefinition;
         this.types = types;
+        this.cache = cache;
+        this.compact = compact;
     }
 
     @Override
     public Optional<PostmanRequest.Body> visitBody(BodyParameterType _value) {
-        TemplateTypeVisitor visitor = new TemplateTypeVisitor(types);
+        TemplateTypeVisitor visitor = new TemplateTypeVisitor(types, cache);
         Type type = argumentDefinition.getType();
 
         return type.accept(new Type.Visitor<Optional<PostmanRequest.Body>>() {
@@ -56,38 +68,38 @@ public final class BodyParameterTypeVisitor extends DefaultParameterTypeVisitor<
                     case BINARY:
                         return Optional.of(PostmanRequest.FileBody.builder().build());
                     default:
-                        return rawBody(visitor.visitPrimitive(value));
+                        return rawBody(visitor, type);
                 }
             }
 
             @Override
             public Optional<PostmanRequest.Body> visitOptional(OptionalType value) {
-                return rawBody(visitor.visitOptional(value));
+                return rawBody(visitor, type);
             }
 
             @Override
             public Optional<PostmanRequest.Body> visitList(ListType value) {
-                return rawBody(visitor.visitList(value));
+                return rawBody(visitor, type);
             }
 
             @Override
             public Optional<PostmanRequest.Body> visitSet(SetType value) {
-                return rawBody(visitor.visitSet(value));
+                return rawBody(visitor, type);
             }
 
             @Override
             public Optional<PostmanRequest.Body> visitMap(MapType value) {
-                return rawBody(visitor.visitMap(value));
+                return rawBody(visitor, type);
             }
 
             @Override
             public Optional<PostmanRequest.Body> visitReference(TypeName value) {
-                return rawBody(visitor.visitReference(value));
+                return rawBody(visitor, type);
             }
 
             @Override
             public Optional<PostmanRequest.Body> visitExternal(ExternalReference value) {
-                return rawBody(visitor.visitExternal(value));
+                return rawBody(visitor, type);
             }
 
             @Override
@@ -97,13 +109,9 @@ public final class BodyParameterTypeVisitor extends DefaultParameterTypeVisitor<
         });
     }
 
-    private static Optional<PostmanRequest.Body> rawBody(JsonNode content) {
-        try {
-            String serializedContent = TemplateTypeVisitor.getObjectMapper().writeValueAsString(content);
-            return Optional.of(
-                    PostmanRequest.RawBody.builder().raw(serializedContent).build());
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+    private Optional<PostmanRequest.Body> rawBody(TemplateTypeVisitor visitor, Type type) {
+        String serializedContent = compact ? visitor.writeCompactTemplate(type) : visitor.writeTemplate(type);
+        return Optional.of(
+                PostmanRequest.RawBody.builder().raw(serializedContent).build());
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.visitor;
+
+import com.google.common.base.Preconditions;
+import com.palantir.tokens.auth.ImmutablesStyle;
+import java.util.Optional;
+import org.immutables.value.Value;
+
+/**
+ * Limits on the size of each body and return template. Parts of a template beyond a limit are replaced by a
+ * {@code {{TypeName}}} placeholder, the same way recursive references are cut off.
+ */
+@Value.Immutable
+@ImmutablesStyle
+public interface TemplateBudget {
+
+    /**
+     * Deepest level of nested objects and unions that is expanded, counting the outermost one as level {@code 1}.
+     * Objects and unions nested any deeper are replaced by a placeholder.
+     */
+    Optional<Integer> maxDepth();
+
+    /**
+     * Maximum number of JSON nodes in a template. Templates exceeding it are cut off at the deepest level of nesting
+     * that keeps them within the limit.
+     */
+    Optional<Integer> maxNodes();
+
+    /** Maximum number of variants expanded for each union; the templates of further variants are placeholders. */
+    Optional<Integer> maxUnionVariants();
+
+    default boolean isUnlimited() {
+        return maxDepth().isEmpty()
+                && maxNodes().isEmpty()
+                && maxUnionVariants().isEmpty();
+    }
+
+    @SuppressWarnings("PreferSafeLoggingPreconditions")
+    @Value.Check
+    default void check() {
+        Preconditions.checkArgument(maxDepth().orElse(0) >= 0, "maxDepth must not be negative");
+        Preconditions.checkArgument(maxNodes().orElse(1) >= 1, "maxNodes must be at least 1");
+        Preconditions.checkArgument(maxUnionVariants().orElse(0) >= 0, "maxUnionVariants must not be negative");
+    }
+
+    final class Builder extends ImmutableTemplateBudget.Builder {}
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    static TemplateBudget unlimited() {
+        return builder().build();
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.visitor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.primitives.Ints;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeName;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.immutables.value.Value;
+
+/**
+ * Generation-scoped cache of the templates produced by {@link TemplateTypeVisitor} for referenced types.
+ *
+ * Templates are keyed by {@link TypeName} together with the types currently being expanded that lie on a cycle with
+ * it, since recursive references are cut off based on that context. Non-recursive types always have an empty context,
+ * so each of them is expanded once per generation. Cached {@link JsonNode} trees are shared between every template that
+ * references them and must not be mutated. The templates held can optionally be bounded by their total number of JSON
+ * nodes, in which case the least recently used are evicted and expanded again if they are referenced later.
+ *
+ * The cache also holds the serialized JSON of complete body and return templates, keyed by {@link Type}. Those strings
+ * can be large, so they are bounded by their total length and evicted least recently used first. Those complete
+ * templates are cut down to the cache's {@link TemplateBudget} before they are serialized, and the number of JSON nodes
+ * in each can optionally be kept for reporting.
+ */
+public final class TemplateCache {
+
+    /** Default bound on the total length of the serialized templates held: 16 Mi characters, about 32 MiB as UTF-16. */
+    public static final long DEFAULT_MAX_SERIALIZED_CHARS = 16L * 1024 * 1024;
+
+    /** Default bound on the total number of JSON nodes in the templates held when they are bounded at all. */
+    public static final long DEFAULT_MAX_TEMPLATE_NODES = 1024L * 1024;
+
+    /** Bound on the templates held that leaves them unbounded. */
+    public static final long UNBOUNDED_TEMPLATE_NODES = Long.MAX_VALUE;
+
+    private static final ObjectWriter prettyWriter =
+            TemplateTypeVisitor.getObjectMapper().writer();
+    private static final ObjectWriter compactWriter =
+            TemplateTypeVisitor.getObjectMapper().writer().without(SerializationFeature.INDENT_OUTPUT);
+
+    private final TemplateBudget budget;
+    private final Cache<TemplateKey, JsonNode> templates;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // Guarded by itself; iterated in least recently used order for eviction.
+    private final Map<SerializedKey, String> serialized = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxSerializedChars;
+    private long serializedChars;
+    private final LongAdder serializedHits = new LongAdder();
+    private final LongAdder serializedMisses = new LongAdder();
+    private final Set<Type> truncated = ConcurrentHashMap.newKeySet();
+    private final boolean countTemplateNodes;
+    private final ConcurrentMap<Type, Integer> templateNodes = new ConcurrentHashMap<>();
+
+    public TemplateCache() {
+        this(TemplateBudget.unlimited());
+    }
+
+    public TemplateCache(TemplateBudget budget) {
+        this(budget, DEFAULT_MAX_SERIALIZED_CHARS);
+    }
+
+    @SuppressWarnings("PreferSafeLoggingPreconditions")
+    public TemplateCache(TemplateBudget budget, long maxSerializedChars) {
+        this(budget, maxSerializedChars, UNBOUNDED_TEMPLATE_NODES);
+    }
+
+    /**
+     * Creates a cache that also bounds the templates of referenced types it holds to about {@code maxTemplateNodes}
+     * JSON nodes in total. A template is weighed by every node it contains, including those it shares with the
+     * templates it references, so the bound errs on the side of evicting.
+     */
+    public TemplateCache(TemplateBudget budget, long maxSerializedChars, long maxTemplateNodes) {
+        this(budget, maxSerializedChars, maxTemplateNodes, false);
+    }
+
+    /**
+     * Like {@link #TemplateCache(TemplateBudget, long, long)}, but when {@code countTemplateNodes} is set also counts
+     * the JSON nodes of each complete template it serializes, for {@link #templateNodes(Type)}. Counting walks the whole
+     * template, so it is left off unless the counts are reported.
+     */
+    @SuppressWarnings("PreferSafeLoggingPreconditions")
+    public TemplateCache(
+            TemplateBudget budget, long maxSerializedChars, long maxTemplateNodes, boolean countTemplateNodes) {
+        Preconditions.checkArgument(maxSerializedChars >= 0, "maxSerializedChars must not be negative");
+        Preconditions.checkArgument(maxTemplateNodes >= 0, "maxTemplateNodes must not be negative");
+        this.budget = budget;
+        this.maxSerializedChars = maxSerializedChars;
+        this.countTemplateNodes = countTemplateNodes;
+        this.templates = maxTemplateNodes == UNBOUNDED_TEMPLATE_NODES
+                ? CacheBuilder.newBuilder().build()
+                : CacheBuilder.newBuilder()
+                        .maximumWeight(maxTemplateNodes)
+                        .<TemplateKey, JsonNode>weigher((_key, template) -> countNodes(template))
+                        .build();
+    }
+
+    public TemplateBudget budget() {
+        return budget;
+    }
+
+    /** Returns whether the template of {@code type} has been cut down to fit the {@link #budget()}. */
+    public boolean isTruncated(Type type) {
+        return truncated.contains(type);
+    }
+
+    void markTruncated(Type type) {
+        truncated.add(type);
+    }
+
+    /**
+     * Returns the number of JSON nodes in the complete template of {@code type}, once it has been serialized by a cache
+     * that counts template nodes.
+     */
+    public OptionalInt templateNodes(Type type) {
+        Integer nodes = templateNodes.get(type);
+        return nodes != null ? OptionalInt.of(nodes) : OptionalInt.empty();
+    }
+
+    JsonNode get(TypeName typeName, Collection<TypeName> context, Supplier<JsonNode> expander) {
+        TemplateKey key = ImmutableTemplateKey.of(typeName, context);
+        JsonNode cached = templates.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        // Expansion recursively consults the cache, so it must not run inside a loading function.
+        JsonNode template = expander.get();
+        if (template == null) {
+            return null;
+        }
+        JsonNode existing = templates.asMap().putIfAbsent(key, template);
+        return existing != null ? existing : template;
+    }
+
+    /**
+     * Returns {@code template}, the template of {@code type}, serialized as pretty-printed or compact JSON. Each
+     * distinct type and format is serialized once and reused for as long as it stays within the size bound.
+     */
+    String serialize(Type type, boolean pretty, Supplier<JsonNode> template) {
+        SerializedKey key = ImmutableSerializedKey.of(type, pretty);
+        synchronized (serialized) {
+            String cached = serialized.get(key);
+            if (cached != null) {
+                serializedHits.increment();
+                return cached;
+            }
+        }
+        serializedMisses.increment();
+        JsonNode tree = template.get();
+        if (countTemplateNodes) {
+            templateNodes.put(type, countNodes(tree));
+        }
+        String json = write(tree, pretty);
+        synchronized (serialized) {
+            String previous = serialized.put(key, json);
+            serializedChars += json.length() - (previous != null ? previous.length() : 0);
+            Iterator<String> eldest = serialized.values().iterator();
+            while (serializedChars > maxSerializedChars && eldest.hasNext()) {
+                serializedChars -= eldest.next().length();
+                eldest.remove();
+            }
+        }
+        return json;
+    }
+
+    private static int countNodes(JsonNode template) {
+        if (template == null) {
+            return 0;
+        }
+        int nodes = 0;
+        Deque<JsonNode> pending = new ArrayDeque<>();
+        pending.push(template);
+        while (!pending.isEmpty()) {
+            nodes++;
+            pending.pop().elements().forEachRemaining(pending::push);
+        }
+        return nodes;
+    }
+
+    private static String write(JsonNode template, boolean pretty) {
+        try {
+            return (pretty ? prettyWriter : compactWriter).writeValueAsString(template);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /** Number of reference expansions served from the cache. */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /** Number of reference expansions that had to be computed. */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /** Number of distinct templates currently held. */
+    public int size() {
+        return Ints.saturatedCast(templates.size());
+    }
+
+    /** Number of template serializations served from the cache. */
+    public long serializedHits() {
+        return serializedHits.sum();
+    }
+
+    /** Number of template serializations that had to be computed. */
+    public long serializedMisses() {
+        return serializedMisses.sum();
+    }
+
+    @Value.Immutable
+    interface TemplateKey {
+
+        @Value.Parameter
+        TypeName typeName();
+
+        @Value.Parameter
+        Set<TypeName> context();
+    }
+
+    @Value.Immutable
+    interface SerializedKey {
+
+        @Value.Parameter
+        Type type();
+
+        @Value.Parameter
+        boolean pretty();
+    }
+}
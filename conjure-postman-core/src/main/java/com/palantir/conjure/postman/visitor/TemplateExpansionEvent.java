@@ -0,0 +1,82 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.visitor;
+
+import com.palantir.conjure.spec.AliasDefinition;
+import com.palantir.conjure.spec.EnumDefinition;
+import com.palantir.conjure.spec.ObjectDefinition;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.UnionDefinition;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning the expansion of the template of one named type. Expansions nest like the types do,
+ * and only happen on template cache misses, so each event covers the work attributable to that type and the types it
+ * expands for the first time.
+ */
+@Name("com.palantir.conjure.postman.TemplateExpansion")
+@Label("Template Expansion")
+@Category("Conjure Postman")
+@Description("Expands the JSON template of a named Conjure type")
+final class TemplateExpansionEvent extends Event {
+
+    private static final TypeDefinition.Visitor<Integer> MEMBERS = new TypeDefinition.Visitor<>() {
+        @Override
+        public Integer visitAlias(AliasDefinition _value) {
+            return 1;
+        }
+
+        @Override
+        public Integer visitEnum(EnumDefinition value) {
+            return value.getValues().size();
+        }
+
+        @Override
+        public Integer visitObject(ObjectDefinition value) {
+            return value.getFields().size();
+        }
+
+        @Override
+        public Integer visitUnion(UnionDefinition value) {
+            return value.getUnion().size();
+        }
+
+        @Override
+        public Integer visitUnknown(String _unknownType) {
+            return 0;
+        }
+    };
+
+    @Label("Type Name")
+    String typeName;
+
+    @Label("Members")
+    @Description("Fields of an object, variants of a union or values of an enum")
+    int members;
+
+    @Label("Recursive")
+    @Description("Whether the type lies on a reference cycle")
+    boolean recursive;
+
+    static int members(TypeDefinition definition) {
+        return definition.accept(MEMBERS);
+    }
+}
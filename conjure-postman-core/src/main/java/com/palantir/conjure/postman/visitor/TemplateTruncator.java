@@ -0,0 +1,270 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.palantir.conjure.spec.AliasDefinition;
+import com.palantir.conjure.spec.EnumDefinition;
+import com.palantir.conjure.spec.ExternalReference;
+import com.palantir.conjure.spec.FieldDefinition;
+import com.palantir.conjure.spec.ListType;
+import com.palantir.conjure.spec.MapType;
+import com.palantir.conjure.spec.ObjectDefinition;
+import com.palantir.conjure.spec.OptionalType;
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.SetType;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.spec.UnionDefinition;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Applies a {@link TemplateBudget} to a complete template produced by {@link TemplateTypeVisitor}, walking it
+ * alongside the {@link Type} it was expanded from. Cached templates are shared, so truncation copies the nodes on the
+ * path to each cut instead of modifying them; a template within budget is returned as is.
+ */
+final class TemplateTruncator {
+
+    private final TypeRegistry types;
+    private final TemplateBudget budget;
+    private final TypeNameFormatterVisitor formatter;
+
+    TemplateTruncator(TypeRegistry types, TemplateBudget budget) {
+        this.types = types;
+        this.budget = budget;
+        this.formatter = new TypeNameFormatterVisitor(types);
+    }
+
+    /** Returns {@code template} cut down to the budget, or {@code template} itself if it is already within it. */
+    JsonNode truncate(Type type, JsonNode template) {
+        if (template == null) {
+            return null;
+        }
+        int maxDepth = budget.maxDepth().orElse(Integer.MAX_VALUE);
+        while (true) {
+            Walk walk = new Walk(maxDepth);
+            JsonNode truncated = walk.visit(type, template, 0);
+            if (!walk.exceeded) {
+                return truncated;
+            }
+            // Every level up to the deepest one reached was expanded before the node limit was exceeded, so the
+            // template can only fit when cut off above it.
+            maxDepth = Math.max(0, Math.min(maxDepth, walk.deepest) - 1);
+        }
+    }
+
+    /** A single pass over a template, cutting off objects and unions nested deeper than {@code maxDepth}. */
+    private final class Walk {
+        private final int maxDepth;
+        private final int maxNodes;
+        private int nodes;
+        private int deepest;
+        private boolean exceeded;
+
+        private Walk(int maxDepth) {
+            this.maxDepth = maxDepth;
+            // Cutting off at depth 0 leaves nothing further to cut, so that pass always runs to completion.
+            this.maxNodes = maxDepth > 0 ? budget.maxNodes().orElse(Integer.MAX_VALUE) : Integer.MAX_VALUE;
+        }
+
+        private JsonNode visit(Type type, JsonNode node, int depth) {
+            if (exceeded) {
+                return node;
+            }
+            return type.accept(new Type.Visitor<JsonNode>() {
+                @Override
+                public JsonNode visitPrimitive(PrimitiveType _value) {
+                    return leaf(node);
+                }
+
+                @Override
+                public JsonNode visitOptional(OptionalType value) {
+                    return visit(value.getItemType(), node, depth);
+                }
+
+                @Override
+                public JsonNode visitList(ListType value) {
+                    return array(node, child -> visit(value.getItemType(), child, depth));
+                }
+
+                @Override
+                public JsonNode visitSet(SetType value) {
+                    return array(node, child -> visit(value.getItemType(), child, depth));
+                }
+
+                @Override
+                public JsonNode visitMap(MapType value) {
+                    return object(node, _field -> child -> visit(value.getValueType(), child, depth));
+                }
+
+                @Override
+                public JsonNode visitReference(TypeName value) {
+                    return visitDefinition(types.get(value), node, depth);
+                }
+
+                @Override
+                public JsonNode visitExternal(ExternalReference _value) {
+                    return leaf(node);
+                }
+
+                @Override
+                public JsonNode visitUnknown(String _unknownType) {
+                    return leaf(node);
+                }
+            });
+        }
+
+        private JsonNode visitDefinition(TypeDefinition definition, JsonNode node, int depth) {
+            return definition.accept(new TypeDefinition.Visitor<JsonNode>() {
+                @Override
+                public JsonNode visitAlias(AliasDefinition value) {
+                    return visit(value.getAlias(), node, depth);
+                }
+
+                @Override
+                public JsonNode visitEnum(EnumDefinition _value) {
+                    return leaf(node);
+                }
+
+                @Override
+                public JsonNode visitObject(ObjectDefinition value) {
+                    if (!node.isObject()) {
+                        return leaf(node);
+                    }
+                    if (depth >= maxDepth) {
+                        return placeholder(value.getTypeName().getName());
+                    }
+                    deepest = Math.max(deepest, depth + 1);
+                    Map<String, Type> fieldTypes = fieldTypes(value.getFields());
+                    return object(
+                            node,
+                            field -> child -> fieldTypes.containsKey(field)
+                                    ? visit(fieldTypes.get(field), child, depth + 1)
+                                    : leaf(child));
+                }
+
+                @Override
+                public JsonNode visitUnion(UnionDefinition value) {
+                    if (!node.isObject()) {
+                        return leaf(node);
+                    }
+                    if (depth >= maxDepth) {
+                        return placeholder(value.getTypeName().getName());
+                    }
+                    deepest = Math.max(deepest, depth + 1);
+                    Map<String, Type> variantTypes = fieldTypes(value.getUnion());
+                    Set<String> expandedVariants = ImmutableSet.copyOf(Iterables.limit(
+                            variantTypes.keySet(), budget.maxUnionVariants().orElse(Integer.MAX_VALUE)));
+                    return object(
+                            node,
+                            field -> field.equals("oneOf")
+                                    ? oneOf -> object(oneOf, variant -> child -> {
+                                        Type variantType = variantTypes.get(variant);
+                                        if (variantType == null) {
+                                            return leaf(child);
+                                        }
+                                        if (!expandedVariants.contains(variant) && child.isContainerNode()) {
+                                            return placeholder(variantType.accept(formatter));
+                                        }
+                                        return visit(variantType, child, depth + 1);
+                                    })
+                                    : Walk.this::leaf);
+                }
+
+                @Override
+                public JsonNode visitUnknown(String _unknownType) {
+                    return leaf(node);
+                }
+            });
+        }
+
+        private JsonNode leaf(JsonNode node) {
+            count(1);
+            return node;
+        }
+
+        private JsonNode placeholder(String name) {
+            count(1);
+            return new TextNode(String.format("{{%s}}", name));
+        }
+
+        private void count(int added) {
+            nodes += added;
+            if (nodes > maxNodes) {
+                exceeded = true;
+            }
+        }
+
+        private JsonNode array(JsonNode node, UnaryOperator<JsonNode> elements) {
+            if (!node.isArray()) {
+                return leaf(node);
+            }
+            count(1);
+            List<JsonNode> children = new ArrayList<>(node.size());
+            boolean changed = false;
+            for (JsonNode child : node) {
+                JsonNode truncated = elements.apply(child);
+                changed |= truncated != child;
+                children.add(truncated);
+            }
+            if (!changed) {
+                return node;
+            }
+            ArrayNode copy = TemplateTypeVisitor.getObjectMapper().createArrayNode();
+            children.forEach(copy::add);
+            return copy;
+        }
+
+        private JsonNode object(JsonNode node, Function<String, UnaryOperator<JsonNode>> fields) {
+            if (!node.isObject()) {
+                return leaf(node);
+            }
+            count(1);
+            Map<String, JsonNode> children = new LinkedHashMap<>();
+            boolean changed = false;
+            for (Map.Entry<String, JsonNode> field : node.properties()) {
+                JsonNode truncated = fields.apply(field.getKey()).apply(field.getValue());
+                changed |= truncated != field.getValue();
+                children.put(field.getKey(), truncated);
+            }
+            if (!changed) {
+                return node;
+            }
+            ObjectNode copy = TemplateTypeVisitor.getObjectMapper().createObjectNode();
+            copy.setAll(children);
+            return copy;
+        }
+    }
+
+    private static Map<String, Type> fieldTypes(List<FieldDefinition> fields) {
+        Map<String, Type> fieldTypes = new LinkedHashMap<>();
+        fields.forEach(field -> fieldTypes.put(field.getFieldName().get(), field.getType()));
+        return fieldTypes;
+    }
+}
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
 import com.palantir.conjure.spec.AliasDefinition;
 import com.palantir.conjure.spec.EnumDefinition;
 import com.palantir.conjure.spec.EnumValueDefinition;
@@ -39,11 +40,9 @@ import com.palantir.conjure.spec.Type;
 import com.palantir.conjure.spec.TypeDefinition;
 import com.palantir.conjure.spec.TypeName;
 import com.palantir.conjure.spec.UnionDefinition;
-import com.palantir.conjure.visitor.TypeDefinitionVisitor;
-import java.util.ArrayDeque;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public final class TemplateTypeVisitor implements Type.Visitor<JsonNode> {
@@ -51,23 +50,51 @@ public final class TemplateTypeVisitor implements Type.Visitor<JsonNode> {
     private static final ObjectMapper objectMapper =
             new ObjectMapper().registerModule(new Jdk8Module()).enable(SerializationFeature.INDENT_OUTPUT);
 
-    private final Map<TypeName, TypeDefinition> types;
-    private final ArrayDeque<TypeName> seenTypeStack;
+    private final TypeRegistry types;
+    private final TemplateCache cache;
+    /** Recursive types currently being expanded, at which a nested reference to the same type is cut off. */
+    private final Set<TypeName> expanding;
 
     public TemplateTypeVisitor(List<TypeDefinition> types) {
-        this(types.stream()
-                .collect(Collectors.toMap(type -> type.accept(TypeDefinitionVisitor.TYPE_NAME), Function.identity())));
+        this(TypeRegistry.of(types), new TemplateCache());
     }
 
-    private TemplateTypeVisitor(Map<TypeName, TypeDefinition> types) {
+    public TemplateTypeVisitor(TypeRegistry types, TemplateCache cache) {
         this.types = types;
-        this.seenTypeStack = new ArrayDeque<>();
+        this.cache = cache;
+        this.expanding = new HashSet<>();
     }
 
     public static ObjectMapper getObjectMapper() {
         return objectMapper;
     }
 
+    /**
+     * Returns the template of {@code type}, within the cache's {@link TemplateBudget}, as pretty-printed JSON. Each
+     * distinct type is serialized once.
+     */
+    public String writeTemplate(Type type) {
+        return cache.serialize(type, true, () -> budgeted(type));
+    }
+
+    /** Like {@link #writeTemplate(Type)}, but as compact JSON. */
+    public String writeCompactTemplate(Type type) {
+        return cache.serialize(type, false, () -> budgeted(type));
+    }
+
+    /** Expands the template of {@code type} and cuts it down to the {@link TemplateCache#budget()}. */
+    private JsonNode budgeted(Type type) {
+        JsonNode template = type.accept(this);
+        if (cache.budget().isUnlimited()) {
+            return template;
+        }
+        JsonNode truncated = new TemplateTruncator(types, cache.budget()).truncate(type, template);
+        if (truncated != template) {
+            cache.markTruncated(type);
+        }
+        return truncated;
+    }
+
     @Override
     public JsonNode visitPrimitive(PrimitiveType value) {
         return new TextNode(String.format("{{%s}}", value.get().name()));
@@ -103,10 +130,48 @@ public final class TemplateTypeVisitor implements Type.Visitor<JsonNode> {
         return objectMapper.createObjectNode().set(key, value.getValueType().accept(this));
     }
 
-    @SuppressWarnings("PreferSafeLoggingPreconditions")
     @Override
     public JsonNode visitReference(TypeName value) {
+        return cache.get(value, recursionContext(value), () -> expandReference(value));
+    }
+
+    /**
+     * Returns the types being expanded that can cut off the expansion of {@code typeName}. Only types on a cycle with
+     * it can be reached again from it, so the template of a non-recursive type never depends on where it is expanded.
+     */
+    private Set<TypeName> recursionContext(TypeName typeName) {
+        if (expanding.isEmpty() || !types.isRecursive(typeName)) {
+            return ImmutableSet.of();
+        }
+        ImmutableSet<TypeName> component = types.recursiveComponent(typeName);
+        return expanding.stream().filter(component::contains).collect(ImmutableSet.toImmutableSet());
+    }
+
+    /** Marks {@code typeName} as being expanded, returning false if it already is and must be cut off. */
+    private boolean enter(TypeName typeName) {
+        return !types.isRecursive(typeName) || expanding.add(typeName);
+    }
+
+    @SuppressWarnings("PreferSafeLoggingPreconditions")
+    private void exit(TypeName typeName) {
+        Preconditions.checkState(!types.isRecursive(typeName) || expanding.remove(typeName));
+    }
+
+    private JsonNode expandReference(TypeName value) {
+        TemplateExpansionEvent event = new TemplateExpansionEvent();
+        event.begin();
         TypeDefinition definition = types.get(value);
+        JsonNode template = expandDefinition(definition);
+        if (event.shouldCommit()) {
+            event.typeName = String.format("%s.%s", value.getPackage(), value.getName());
+            event.members = TemplateExpansionEvent.members(definition);
+            event.recursive = types.isRecursive(value);
+            event.commit();
+        }
+        return template;
+    }
+
+    private JsonNode expandDefinition(TypeDefinition definition) {
         TemplateTypeVisitor visitor = this;
         return definition.accept(new TypeDefinition.Visitor<JsonNode>() {
 
@@ -130,17 +195,16 @@ public final class TemplateTypeVisitor implements Type.Visitor<JsonNode> {
 
             @Override
             public JsonNode visitObject(ObjectDefinition value) {
-                if (seenTypeStack.contains(value.getTypeName())) {
+                if (!enter(value.getTypeName())) {
                     return new TextNode(
                             String.format("{{%s}}", value.getTypeName().getName()));
                 }
-                seenTypeStack.push(value.getTypeName());
                 ObjectNode node = objectMapper.createObjectNode();
                 value.getFields()
                         .forEach(fieldDefinition -> node.set(
                                 fieldDefinition.getFieldName().get(),
                                 fieldDefinition.getType().accept(visitor)));
-                Preconditions.checkState(seenTypeStack.pop().equals(value.getTypeName()));
+                exit(value.getTypeName());
                 return node;
             }
 
@@ -149,11 +213,10 @@ public final class TemplateTypeVisitor implements Type.Visitor<JsonNode> {
                 if (value.getUnion().isEmpty()) {
                     return null;
                 } else {
-                    if (seenTypeStack.contains(value.getTypeName())) {
+                    if (!enter(value.getTypeName())) {
                         return new TextNode(
                                 String.format("{{%s}}", value.getTypeName().getName()));
                     }
-                    seenTypeStack.push(value.getTypeName());
                     String unionTypes = value.getUnion().stream()
                             .map(FieldDefinition::getFieldName)
                             .map(FieldName::get)
@@ -166,7 +229,7 @@ public final class TemplateTypeVisitor implements Type.Visitor<JsonNode> {
                             .createObjectNode()
                             .put("type", unionTypes)
                             .set("oneOf", templates);
-                    Preconditions.checkState(seenTypeStack.pop().equals(value.getTypeName()));
+                    exit(value.getTypeName());
                     return union;
                 }
             }
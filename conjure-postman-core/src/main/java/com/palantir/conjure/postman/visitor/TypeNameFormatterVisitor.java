@@ -29,22 +29,17 @@ import com.palantir.conjure.spec.Type;
 import com.palantir.conjure.spec.TypeDefinition;
 import com.palantir.conjure.spec.TypeName;
 import com.palantir.conjure.spec.UnionDefinition;
-import com.palantir.conjure.visitor.TypeDefinitionVisitor;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 public final class TypeNameFormatterVisitor implements Type.Visitor<String> {
 
-    private final Map<TypeName, TypeDefinition> types;
+    private final TypeRegistry types;
 
     public TypeNameFormatterVisitor(List<TypeDefinition> types) {
-        this(types.stream()
-                .collect(Collectors.toMap(type -> type.accept(TypeDefinitionVisitor.TYPE_NAME), Function.identity())));
+        this(TypeRegistry.of(types));
     }
 
-    private TypeNameFormatterVisitor(Map<TypeName, TypeDefinition> types) {
+    public TypeNameFormatterVisitor(TypeRegistry types) {
         this.types = types;
     }
 
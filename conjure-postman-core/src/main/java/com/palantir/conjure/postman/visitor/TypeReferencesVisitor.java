@@ -0,0 +1,110 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.visitor;
+
+import com.palantir.conjure.spec.AliasDefinition;
+import com.palantir.conjure.spec.EnumDefinition;
+import com.palantir.conjure.spec.ExternalReference;
+import com.palantir.conjure.spec.FieldDefinition;
+import com.palantir.conjure.spec.ListType;
+import com.palantir.conjure.spec.MapType;
+import com.palantir.conjure.spec.ObjectDefinition;
+import com.palantir.conjure.spec.OptionalType;
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.SetType;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.spec.UnionDefinition;
+import java.util.stream.Stream;
+
+/** Lists the named types a {@link Type} refers to directly, without resolving them. */
+final class TypeReferencesVisitor implements Type.Visitor<Stream<TypeName>> {
+
+    static final TypeReferencesVisitor INSTANCE = new TypeReferencesVisitor();
+
+    /** Lists the named types referenced by the members of a {@link TypeDefinition}. */
+    static final TypeDefinition.Visitor<Stream<TypeName>> DEFINITION = new TypeDefinition.Visitor<>() {
+        @Override
+        public Stream<TypeName> visitAlias(AliasDefinition value) {
+            return value.getAlias().accept(INSTANCE);
+        }
+
+        @Override
+        public Stream<TypeName> visitEnum(EnumDefinition _value) {
+            return Stream.empty();
+        }
+
+        @Override
+        public Stream<TypeName> visitObject(ObjectDefinition value) {
+            return value.getFields().stream().map(FieldDefinition::getType).flatMap(type -> type.accept(INSTANCE));
+        }
+
+        @Override
+        public Stream<TypeName> visitUnion(UnionDefinition value) {
+            return value.getUnion().stream().map(FieldDefinition::getType).flatMap(type -> type.accept(INSTANCE));
+        }
+
+        @Override
+        public Stream<TypeName> visitUnknown(String _unknownType) {
+            return Stream.empty();
+        }
+    };
+
+    private TypeReferencesVisitor() {}
+
+    @Override
+    public Stream<TypeName> visitPrimitive(PrimitiveType _value) {
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<TypeName> visitOptional(OptionalType value) {
+        return value.getItemType().accept(this);
+    }
+
+    @Override
+    public Stream<TypeName> visitList(ListType value) {
+        return value.getItemType().accept(this);
+    }
+
+    @Override
+    public Stream<TypeName> visitSet(SetType value) {
+        return value.getItemType().accept(this);
+    }
+
+    @Override
+    public Stream<TypeName> visitMap(MapType value) {
+        return Stream.concat(
+                value.getKeyType().accept(this), value.getValueType().accept(this));
+    }
+
+    @Override
+    public Stream<TypeName> visitReference(TypeName value) {
+        return Stream.of(value);
+    }
+
+    @Override
+    public Stream<TypeName> visitExternal(ExternalReference _value) {
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<TypeName> visitUnknown(String _unknownType) {
+        return Stream.empty();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.visitor;
+
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.visitor.TypeDefinitionVisitor;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable index of {@link TypeDefinition}s by {@link TypeName}. Built once per generation and shared by every
+ * visitor that needs to resolve type references.
+ */
+public final class TypeRegistry {
+
+    private final ImmutableMap<TypeName, TypeDefinition> types;
+    private final ImmutableSetMultimap<TypeName, TypeName> references;
+    private final ImmutableMap<TypeName, ImmutableSet<TypeName>> recursiveComponents;
+
+    private TypeRegistry(ImmutableMap<TypeName, TypeDefinition> types) {
+        this.types = types;
+        this.references = types.entrySet().stream()
+                .collect(ImmutableSetMultimap.flatteningToImmutableSetMultimap(
+                        Map.Entry::getKey, entry -> entry.getValue().accept(TypeReferencesVisitor.DEFINITION)));
+        this.recursiveComponents = recursiveComponents();
+    }
+
+    public static TypeRegistry of(List<TypeDefinition> types) {
+        return new TypeRegistry(types.stream()
+                .collect(ImmutableMap.toImmutableMap(
+                        type -> type.accept(TypeDefinitionVisitor.TYPE_NAME), Function.identity())));
+    }
+
+    /** Returns the definition of {@code typeName}, or {@code null} if the type is not defined. */
+    public TypeDefinition get(TypeName typeName) {
+        return types.get(typeName);
+    }
+
+    /** Returns the named types that the definition of {@code typeName} refers to directly. */
+    public ImmutableSet<TypeName> references(TypeName typeName) {
+        return references.get(typeName);
+    }
+
+    /**
+     * Returns every defined type reachable from {@code roots}, following references through aliases, object fields
+     * and union variants.
+     */
+    public Set<TypeName> transitiveReferences(Collection<Type> roots) {
+        Set<TypeName> reachable = new HashSet<>();
+        Deque<TypeName> pending = roots.stream()
+                .flatMap(type -> type.accept(TypeReferencesVisitor.INSTANCE))
+                .collect(Collectors.toCollection(ArrayDeque::new));
+        while (!pending.isEmpty()) {
+            TypeName next = pending.pop();
+            if (types.containsKey(next) && reachable.add(next)) {
+                pending.addAll(references(next));
+            }
+        }
+        return reachable;
+    }
+
+    /** Returns whether {@code typeName} can reach itself by following references, directly or through other types. */
+    public boolean isRecursive(TypeName typeName) {
+        return recursiveComponents.containsKey(typeName);
+    }
+
+    /**
+     * Returns the types that lie on a cycle with {@code typeName}: its strongly connected component in the reference
+     * graph, including {@code typeName} itself. Empty if the type is not recursive.
+     */
+    public ImmutableSet<TypeName> recursiveComponent(TypeName typeName) {
+        return recursiveComponents.getOrDefault(typeName, ImmutableSet.of());
+    }
+
+    public ImmutableCollection<TypeDefinition> definitions() {
+        return types.values();
+    }
+
+    public int size() {
+        return types.size();
+    }
+
+    /**
+     * Finds the strongly connected components of the reference graph with Tarjan's algorithm, using an explicit stack
+     * so that long reference chains cannot overflow the call stack. Only components that contain a cycle are kept.
+     */
+    private ImmutableMap<TypeName, ImmutableSet<TypeName>> recursiveComponents() {
+        Map<TypeName, Integer> index = new HashMap<>();
+        Map<TypeName, Integer> lowLink = new HashMap<>();
+        Deque<TypeName> component = new ArrayDeque<>();
+        Set<TypeName> onComponent = new HashSet<>();
+        ImmutableMap.Builder<TypeName, ImmutableSet<TypeName>> result = ImmutableMap.builder();
+
+        for (TypeName root : types.keySet()) {
+            if (index.containsKey(root)) {
+                continue;
+            }
+            Deque<Visit> visits = new ArrayDeque<>();
+            visits.push(new Visit(root, references(root).iterator()));
+            index.put(root, index.size());
+            lowLink.put(root, index.get(root));
+            component.push(root);
+            onComponent.add(root);
+
+            while (!visits.isEmpty()) {
+                Visit visit = visits.peek();
+                if (visit.successors.hasNext()) {
+                    TypeName next = visit.successors.next();
+                    if (!types.containsKey(next)) {
+                        continue;
+                    }
+                    if (!index.containsKey(next)) {
+                        visits.push(new Visit(next, references(next).iterator()));
+                        index.put(next, index.size());
+                        lowLink.put(next, index.get(next));
+                        component.push(next);
+                        onComponent.add(next);
+                    } else if (onComponent.contains(next)) {
+                        lowLink.put(visit.typeName, Math.min(lowLink.get(visit.typeName), index.get(next)));
+                    }
+                    continue;
+                }
+
+                visits.pop();
+                if (!visits.isEmpty()) {
+                    TypeName parent = visits.peek().typeName;
+                    lowLink.put(parent, Math.min(lowLink.get(parent), lowLink.get(visit.typeName)));
+                }
+                if (lowLink.get(visit.typeName).equals(index.get(visit.typeName))) {
+                    ImmutableSet.Builder<TypeName> members = ImmutableSet.builder();
+                    TypeName member;
+                    do {
+                        member = component.pop();
+                        onComponent.remove(member);
+                        members.add(member);
+                    } while (!member.equals(visit.typeName));
+                    ImmutableSet<TypeName> scc = members.build();
+                    if (scc.size() > 1 || references(visit.typeName).contains(visit.typeName)) {
+                        scc.forEach(typeName -> result.put(typeName, scc));
+                    }
+                }
+            }
+        }
+        return result.buildOrThrow();
+    }
+
+    private static final class Visit {
+        private final TypeName typeName;
+        private final Iterator<TypeName> successors;
+
+        private Visit(TypeName typeName, Iterator<TypeName> successors) {
+            this.typeName = typeName;
+            this.successors = successors;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.writer;
+
+import com.palantir.conjure.postman.api.PostmanCollection;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/** Writes collection files for the file writers, which differ only in how the serialized collection is encoded. */
+final class CollectionFiles {
+
+    private CollectionFiles() {}
+
+    /** Wraps the stream of the file being written, for instance to compress what is written to it. */
+    @FunctionalInterface
+    interface Encoding {
+        Encoding NONE = os -> os;
+
+        OutputStream wrap(OutputStream os) throws IOException;
+    }
+
+    /** Serializes a collection to the stream it is given. */
+    @FunctionalInterface
+    interface Content {
+        void writeTo(OutputStream os) throws IOException;
+    }
+
+    /**
+     * Writes {@code content}, the serialized {@code collection}, to {@code filePath} through {@code encoding}, creating
+     * missing parent directories, and returns the size of the file. The write is recorded as a
+     * {@link CollectionWriteEvent}.
+     */
+    static long write(Path filePath, PostmanCollection collection, Encoding encoding, Content content) {
+        CollectionWriteEvent event = new CollectionWriteEvent();
+        event.begin();
+        try {
+            Files.createDirectories(filePath.getParent());
+            try (OutputStream os = encoding.wrap(Files.newOutputStream(filePath))) {
+                content.writeTo(os);
+            }
+            long size = Files.size(filePath);
+            CollectionWriteEvent.commit(event, collection, filePath, size);
+            return size;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
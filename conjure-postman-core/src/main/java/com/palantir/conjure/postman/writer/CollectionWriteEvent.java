@@ -0,0 +1,56 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.writer;
+
+import com.palantir.conjure.postman.api.PostmanCollection;
+import java.nio.file.Path;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning the writing of one collection file. Streaming writes render the collection's folders
+ * as they are serialized, so the event then covers rendering as well.
+ */
+@Name("com.palantir.conjure.postman.CollectionWrite")
+@Label("Collection Write")
+@Category("Conjure Postman")
+@Description("Serializes a collection to a file")
+final class CollectionWriteEvent extends Event {
+
+    @Label("Collection")
+    String collection;
+
+    @Label("Path")
+    String path;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    static void commit(CollectionWriteEvent event, PostmanCollection collection, Path path, long bytes) {
+        if (event.shouldCommit()) {
+            event.collection = collection.info().name();
+            event.path = path.toString();
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+}
@@ -16,35 +16,56 @@
 
 package com.palantir.conjure.postman.writer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.palantir.conjure.postman.api.PostmanCollection;
-import java.io.IOException;
-import java.io.OutputStream;
-import java.nio.file.Files;
+import com.palantir.conjure.postman.api.PostmanItem;
 import java.nio.file.Path;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
 public final class DefaultPostmanCollectionFileWriter implements PostmanCollectionFileWriter {
 
-    private static final ObjectMapper mapper =
-            new ObjectMapper().registerModule(new Jdk8Module()).enable(SerializationFeature.INDENT_OUTPUT);
     private final Path basePath;
+    private final PostmanCollectionSerializer serializer;
+    private final LongAdder bytesWritten = new LongAdder();
 
     public DefaultPostmanCollectionFileWriter(Path basePath) {
+        this(basePath, false);
+    }
+
+    /**
+     * @param compact whether to write collections without indentation and line breaks, which makes large collections
+     *     considerably smaller and faster to import.
+     */
+    public DefaultPostmanCollectionFileWriter(Path basePath, boolean compact) {
         this.basePath = basePath;
+        this.serializer = new PostmanCollectionSerializer(compact);
     }
 
     @Override
     public void write(PostmanCollection collection) {
-        Path filePath = basePath.resolve(PostmanCollectionFileWriter.getPath(collection));
-        try {
-            Files.createDirectories(filePath.getParent());
-            try (OutputStream os = Files.newOutputStream(filePath)) {
-                mapper.writeValue(os, collection);
-            }
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        write(collection, os -> serializer.write(os, collection));
+    }
+
+    /**
+     * Serializes the collection field by field, writing each of {@code items} into the items array as soon as the
+     * stream produces it. The output is identical to {@link #write(PostmanCollection)} on the assembled collection.
+     */
+    @Override
+    public void write(PostmanCollection collection, Stream<? extends PostmanItem> items) {
+        write(collection, os -> serializer.write(os, collection, items));
+    }
+
+    private void write(PostmanCollection collection, CollectionFiles.Content content) {
+        bytesWritten.add(CollectionFiles.write(
+                basePath.resolve(PostmanCollectionFileWriter.getPath(collection)),
+                collection,
+                CollectionFiles.Encoding.NONE,
+                content));
+    }
+
+    @Override
+    public OptionalLong bytesWritten() {
+        return OptionalLong.of(bytesWritten.sum());
     }
 }
@@ -0,0 +1,79 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.writer;
+
+import com.palantir.conjure.postman.api.PostmanCollection;
+import com.palantir.conjure.postman.api.PostmanItem;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes collections gzip-compressed to {@code <name>.postman_collection.json.gz}, compressing the JSON as it is
+ * serialized so that the uncompressed collection never touches the disk.
+ */
+public final class GzipPostmanCollectionFileWriter implements PostmanCollectionFileWriter {
+
+    private static final String EXTENSION = ".gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path basePath;
+    private final PostmanCollectionSerializer serializer;
+    private final LongAdder bytesWritten = new LongAdder();
+
+    public GzipPostmanCollectionFileWriter(Path basePath) {
+        this(basePath, false);
+    }
+
+    /** @param compact whether to write collections without indentation and line breaks before compressing them. */
+    public GzipPostmanCollectionFileWriter(Path basePath, boolean compact) {
+        this.basePath = basePath;
+        this.serializer = new PostmanCollectionSerializer(compact);
+    }
+
+    @Override
+    public void write(PostmanCollection collection) {
+        write(collection, os -> serializer.write(os, collection));
+    }
+
+    /** Streams {@code items} into the compressed file as they are produced, like the uncompressed writer. */
+    @Override
+    public void write(PostmanCollection collection, Stream<? extends PostmanItem> items) {
+        write(collection, os -> serializer.write(os, collection, items));
+    }
+
+    private void write(PostmanCollection collection, CollectionFiles.Content content) {
+        bytesWritten.add(CollectionFiles.write(
+                basePath.resolve(getPath(collection)),
+                collection,
+                os -> new GZIPOutputStream(os, BUFFER_SIZE),
+                content));
+    }
+
+    @Override
+    public OptionalLong bytesWritten() {
+        return OptionalLong.of(bytesWritten.sum());
+    }
+
+    /** Returns {@link PostmanCollectionFileWriter#getPath(PostmanCollection)} with a {@code .gz} extension appended. */
+    public static Path getPath(PostmanCollection collection) {
+        Path path = PostmanCollectionFileWriter.getPath(collection);
+        return path.resolveSibling(path.getFileName() + EXTENSION);
+    }
+}
@@ -17,13 +17,34 @@
 package com.palantir.conjure.postman.writer;
 
 import com.palantir.conjure.postman.api.PostmanCollection;
+import com.palantir.conjure.postman.api.PostmanItem;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface PostmanCollectionFileWriter {
 
     void write(PostmanCollection collection);
 
+    /**
+     * Writes {@code collection} with {@code items} as its items, replacing any it already has. Items must be supplied
+     * in the order they are serialized, sorted by name. The default implementation collects them before writing;
+     * implementations may instead serialize each item as it is produced.
+     */
+    default void write(PostmanCollection collection, Stream<? extends PostmanItem> items) {
+        write(PostmanCollection.builder()
+                .from(collection)
+                .items(items.collect(Collectors.toList()))
+                .build());
+    }
+
+    /** Total size of the files written so far, for writers that keep count. */
+    default OptionalLong bytesWritten() {
+        return OptionalLong.empty();
+    }
+
     @SuppressWarnings("for-rollout:StringCaseLocaleUsage")
     static Path getPath(PostmanCollection collection) {
         return Paths.get(String.format(
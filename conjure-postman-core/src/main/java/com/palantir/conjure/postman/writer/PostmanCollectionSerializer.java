@@ -0,0 +1,78 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.writer;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.palantir.conjure.postman.api.PostmanCollection;
+import com.palantir.conjure.postman.api.PostmanItem;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/** Serializes collections to an {@link OutputStream}, shared by the file writers however their files are encoded. */
+final class PostmanCollectionSerializer {
+
+    private static final ObjectMapper mapper =
+            new ObjectMapper().registerModule(new Jdk8Module()).enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String ITEMS_FIELD = "items";
+    private final ObjectWriter writer;
+    private final ObjectWriter streamingWriter;
+
+    PostmanCollectionSerializer(boolean compact) {
+        this.writer = compact ? mapper.writer().without(SerializationFeature.INDENT_OUTPUT) : mapper.writer();
+        this.streamingWriter = writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    void write(OutputStream os, PostmanCollection collection) throws IOException {
+        writer.writeValue(os, collection);
+    }
+
+    /**
+     * Serializes the collection field by field, writing each of {@code items} into the items array as soon as the
+     * stream produces it. The output is identical to {@link #write(OutputStream, PostmanCollection)} on the assembled
+     * collection.
+     */
+    void write(OutputStream os, PostmanCollection collection, Stream<? extends PostmanItem> items) throws IOException {
+        ObjectNode fields = mapper.valueToTree(collection);
+        try (JsonGenerator generator = writer.createGenerator(os, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            for (Map.Entry<String, JsonNode> field : fields.properties()) {
+                generator.writeFieldName(field.getKey());
+                if (ITEMS_FIELD.equals(field.getKey())) {
+                    generator.writeStartArray();
+                    Iterator<? extends PostmanItem> iterator = items.iterator();
+                    while (iterator.hasNext()) {
+                        streamingWriter.writeValue(generator, iterator.next());
+                    }
+                    generator.writeEndArray();
+                } else {
+                    streamingWriter.writeValue(generator, field.getValue());
+                }
+            }
+            generator.writeEndObject();
+        }
+    }
+}
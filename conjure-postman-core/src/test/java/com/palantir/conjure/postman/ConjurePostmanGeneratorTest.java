@@ -18,15 +18,12 @@ package com.palantir.conjure.postman;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import com.palantir.conjure.defs.Conjure;
 import com.palantir.conjure.postman.writer.DefaultPostmanCollectionFileWriter;
 import com.palantir.conjure.postman.writer.PostmanCollectionFileWriter;
 import com.palantir.conjure.spec.ConjureDefinition;
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -50,7 +47,7 @@ public final class ConjurePostmanGeneratorTest {
         UuidProvider.setUseRandom(false);
         Path expected = folder.resolve("expected");
 
-        ConjureDefinition definition = getInputDefinitions(folder);
+        ConjureDefinition definition = TestDefinitions.parse(folder);
         maybeResetExpectedDirectory(expected, definition);
 
         writer.write(generator.generate(definition));
@@ -92,20 +89,4 @@ public final class ConjurePostmanGeneratorTest {
             defaultWriter.write(generator.generate(definition));
         }
     }
-
-    private ConjureDefinition getInputDefinitions(Path folder) throws IOException {
-        Files.createDirectories(folder);
-        try (Stream<Path> walk = Files.walk(folder)) {
-            List<File> files = walk.map(Path::toFile)
-                    .filter(file -> file.toString().endsWith(".yml"))
-                    .collect(Collectors.toList());
-
-            if (files.isEmpty()) {
-                throw new RuntimeException(
-                        folder + " contains no conjure.yml files, please write one to set up a new test");
-            }
-
-            return Conjure.parse(files);
-        }
-    }
 }
@@ -0,0 +1,69 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.conjure.postman.api.PostmanUrl;
+import com.palantir.conjure.spec.HttpPath;
+import java.nio.file.Paths;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public final class HttpPathTemplateTest {
+
+    private static final String API_BASE = PostmanUrl.formatApiBase("Test Product");
+
+    @Parameterized.Parameter
+    public String httpPath;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static List<String> httpPaths() {
+        return List.of(
+                "/",
+                "/items",
+                "/items/",
+                "/items//{itemId}",
+                "/items/{itemId}/children/{childId}",
+                "/files/{path*}",
+                "/files/{path:.+}");
+    }
+
+    @Test
+    public void assertThatUrlsMatchThePreviousPathResolution() {
+        HttpPathTemplate template = HttpPathTemplate.of(HttpPath.of(httpPath));
+        String legacyRaw = legacyRaw(httpPath);
+
+        assertThat(template.raw(API_BASE)).isEqualTo(legacyRaw);
+        assertThat(template.path(API_BASE))
+                .isEqualTo(PostmanUrl.builder().raw(legacyRaw).build().path());
+    }
+
+    /** Builds the raw URL as the generator did before paths were split into segments, on a Unix file system. */
+    private static String legacyRaw(String httpPath) {
+        String path = Paths.get(API_BASE).resolve(httpPath).toString();
+        return String.format(
+                "%s:%s/%s%s",
+                PostmanUrl.HOSTNAME_VARIABLE,
+                PostmanUrl.PORT_VARIABLE,
+                API_BASE,
+                path.replaceAll("\\{", ":").replaceAll("}", ""));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.assertj.core.util.Strings;
+import org.junit.runner.RunWith;
+
+@ConjureSubfolderRunner.ParentFolder("src/test/resources")
+@RunWith(ConjureSubfolderRunner.class)
+public final class IdProviderTest {
+
+    private static final GeneratorConfiguration CONFIG = GeneratorConfiguration.builder()
+            .productName("Test Product")
+            .productVersion("0.0.0")
+            .productDescription("This is a testing product.")
+            .apiPath("service-endpoint/api")
+            .build();
+
+    @ConjureSubfolderRunner.Test
+    public void assertThatConcurrentGenerationsUseTheirOwnIds(Path folder) throws Exception {
+        ConjureDefinition definition = TestDefinitions.parse(folder);
+        String expected = Strings.join(
+                        Files.readAllLines(folder.resolve("expected").resolve("test-product.postman_collection.json")))
+                .with("\n");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<Map<Path, String>> constant =
+                    executor.submit(() -> generate(definition, IdProvider.constant(new UUID(0, 0))));
+            Future<Map<Path, String>> nameBased = executor.submit(() -> generate(definition, IdProvider.nameBased()));
+            Future<Map<Path, String>> nameBasedAgain =
+                    executor.submit(() -> generate(definition, IdProvider.nameBased()));
+            Future<Map<Path, String>> random = executor.submit(() -> generate(definition, IdProvider.random()));
+
+            assertThat(constant.get().values()).containsExactly(expected);
+            assertThat(nameBased.get()).isEqualTo(nameBasedAgain.get()).isNotEqualTo(random.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Map<Path, String> generate(ConjureDefinition definition, IdProvider idProvider) {
+        InMemoryPostmanCollectionFileWriter writer = new InMemoryPostmanCollectionFileWriter();
+        writer.write(new PostmanCollectionGenerator(GeneratorConfiguration.builder()
+                        .from(CONFIG)
+                        .idProvider(idProvider)
+                        .parallelism(2)
+                        .build())
+                .generate(definition));
+        return writer.getCollections();
+    }
+}
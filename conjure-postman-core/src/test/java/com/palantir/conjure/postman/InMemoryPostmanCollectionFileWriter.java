@@ -25,14 +25,14 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class InMemoryPostmanCollectionFileWriter implements PostmanCollectionFileWriter {
     private static final ObjectMapper mapper =
             new ObjectMapper().registerModule(new Jdk8Module()).enable(SerializationFeature.INDENT_OUTPUT);
 
-    private final Map<Path, String> collections = new HashMap<>();
+    private final Map<Path, String> collections = new ConcurrentHashMap<>();
 
     public Map<Path, String> getCollections() {
         return collections;
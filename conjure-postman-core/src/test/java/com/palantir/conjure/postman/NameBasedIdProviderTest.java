@@ -0,0 +1,36 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.Test;
+
+public final class NameBasedIdProviderTest {
+
+    @Test
+    public void assertThatIdsMatchVersion5Uuids() {
+        // uuid.uuid5(uuid.UUID("8cd13945-dfc9-4c00-9b14-952b93211a97"), "Test Product/TestService/getTest") in Python.
+        UUID id = IdProvider.nameBased().id(List.of("Test Product", "TestService", "getTest"));
+
+        assertThat(id).isEqualTo(UUID.fromString("a91f9f99-f4e0-5b1f-b634-84ed838a86fe"));
+        assertThat(id.version()).isEqualTo(5);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+}
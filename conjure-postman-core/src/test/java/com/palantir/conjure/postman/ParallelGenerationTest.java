@@ -0,0 +1,54 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.runner.RunWith;
+
+@ConjureSubfolderRunner.ParentFolder("src/test/resources")
+@RunWith(ConjureSubfolderRunner.class)
+public final class ParallelGenerationTest {
+
+    private static final GeneratorConfiguration SEQUENTIAL = GeneratorConfiguration.builder()
+            .productName("Test Product")
+            .productVersion("0.0.0")
+            .productDescription("This is a testing product.")
+            .apiPath("service-endpoint/api")
+            .build();
+
+    @ConjureSubfolderRunner.Test
+    public void assertThatParallelGenerationMatchesSequential(Path folder) throws IOException {
+        UuidProvider.setUseRandom(false);
+        ConjureDefinition definition = TestDefinitions.parse(folder);
+
+        InMemoryPostmanCollectionFileWriter sequential = new InMemoryPostmanCollectionFileWriter();
+        sequential.write(new PostmanCollectionGenerator(SEQUENTIAL).generate(definition));
+
+        InMemoryPostmanCollectionFileWriter parallel = new InMemoryPostmanCollectionFileWriter();
+        parallel.write(new PostmanCollectionGenerator(GeneratorConfiguration.builder()
+                        .from(SEQUENTIAL)
+                        .parallelism(4)
+                        .build())
+                .generate(definition));
+
+        assertThat(parallel.getCollections()).isNotEmpty().isEqualTo(sequential.getCollections());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.conjure.postman.api.PostmanCollection;
+import com.palantir.conjure.postman.api.PostmanItem;
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import org.junit.runner.RunWith;
+
+@ConjureSubfolderRunner.ParentFolder("src/test/resources")
+@RunWith(ConjureSubfolderRunner.class)
+public final class PerServiceGenerationTest {
+
+    private static final GeneratorConfiguration SEQUENTIAL = GeneratorConfiguration.builder()
+            .productName("Test Product")
+            .productVersion("0.0.0")
+            .productDescription("This is a testing product.")
+            .apiPath("service-endpoint/api")
+            .idProvider(IdProvider.nameBased())
+            .build();
+
+    private static final GeneratorConfiguration PARALLEL =
+            GeneratorConfiguration.builder().from(SEQUENTIAL).parallelism(4).build();
+
+    @ConjureSubfolderRunner.Test
+    public void assertThatPerServiceCollectionsHoldTheItemsOfTheCombinedCollection(Path folder) throws IOException {
+        ConjureDefinition definition = TestDefinitions.parse(folder);
+        PostmanCollection combined = new PostmanCollectionGenerator(SEQUENTIAL).generate(definition);
+
+        Queue<PostmanCollection> perService = new ConcurrentLinkedQueue<>();
+        new PostmanCollectionGenerator(PARALLEL).generatePerService(definition, perService::add);
+        List<PostmanItem> items = perService.stream()
+                .flatMap(collection -> collection.items().stream())
+                .collect(Collectors.toList());
+
+        assertThat(perService)
+                .allSatisfy(collection -> assertThat(collection.items()).hasSize(1));
+        assertThat(items).containsExactlyInAnyOrderElementsOf(combined.items());
+    }
+
+    @ConjureSubfolderRunner.Test
+    public void assertThatParallelPerServiceGenerationMatchesSequential(Path folder) throws IOException {
+        ConjureDefinition definition = TestDefinitions.parse(folder);
+
+        InMemoryPostmanCollectionFileWriter sequential = new InMemoryPostmanCollectionFileWriter();
+        new PostmanCollectionGenerator(SEQUENTIAL).generatePerService(definition, sequential);
+
+        InMemoryPostmanCollectionFileWriter parallel = new InMemoryPostmanCollectionFileWriter();
+        new PostmanCollectionGenerator(PARALLEL).generatePerService(definition, parallel);
+
+        assertThat(parallel.getCollections())
+                .hasSize(definition.getServices().size())
+                .isEqualTo(sequential.getCollections());
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import static com.palantir.conjure.postman.TestTypes.field;
+import static com.palantir.conjure.postman.TestTypes.object;
+import static com.palantir.conjure.postman.TestTypes.reference;
+import static com.palantir.conjure.postman.TestTypes.typeName;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.palantir.conjure.postman.api.PostmanFolder;
+import com.palantir.conjure.postman.api.PostmanRequest;
+import com.palantir.conjure.spec.ArgumentDefinition;
+import com.palantir.conjure.spec.ArgumentName;
+import com.palantir.conjure.spec.BodyParameterType;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.Documentation;
+import com.palantir.conjure.spec.EndpointDefinition;
+import com.palantir.conjure.spec.EndpointName;
+import com.palantir.conjure.spec.HttpMethod;
+import com.palantir.conjure.spec.HttpPath;
+import com.palantir.conjure.spec.ParameterType;
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.ServiceDefinition;
+import com.palantir.conjure.spec.Type;
+import java.io.IOException;
+import java.util.List;
+import org.junit.Test;
+
+public final class PostmanRequestGeneratorTest {
+
+    private static final GeneratorConfiguration CONFIG = GeneratorConfiguration.builder()
+            .productName("Request Product")
+            .productVersion("0.0.0")
+            .apiPath("request/api")
+            .idProvider(IdProvider.nameBased())
+            .build();
+
+    private static final ConjureDefinition DEFINITION = ConjureDefinition.builder()
+            .version(1)
+            .types(List.of(
+                    object(
+                            "Result",
+                            field("value", Type.primitive(PrimitiveType.STRING)),
+                            field("item", reference("Item"))),
+                    object("Item", field("count", Type.primitive(PrimitiveType.INTEGER)))))
+            .services(List.of(ServiceDefinition.builder()
+                    .serviceName(typeName("ResultService"))
+                    .endpoints(List.of(
+                            EndpointDefinition.builder()
+                                    .endpointName(EndpointName.of("get"))
+                                    .httpMethod(HttpMethod.GET)
+                                    .httpPath(HttpPath.of("/result"))
+                                    .docs(Documentation.of("Gets the result."))
+                                    .returns(reference("Result"))
+                                    .build(),
+                            EndpointDefinition.builder()
+                                    .endpointName(EndpointName.of("set"))
+                                    .httpMethod(HttpMethod.PUT)
+                                    .httpPath(HttpPath.of("/result"))
+                                    .args(List.of(ArgumentDefinition.builder()
+                                            .argName(ArgumentName.of("result"))
+                                            .type(reference("Result"))
+                                            .paramType(ParameterType.body(BodyParameterType.of()))
+                                            .build()))
+                                    .build()))
+                    .build()))
+            .build();
+
+    private static final String FENCE = "```json";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void assertThatBothPlacementPutsTheReturnsTemplateInBothDescriptions() {
+        PostmanRequest request = request(ReturnsTemplatePlacement.BOTH);
+
+        assertThat(request.description())
+                .hasValueSatisfying(description ->
+                        assertThat(description).startsWith("Gets the result.").contains(FENCE));
+        assertThat(request.request().description()).isEqualTo(request.description());
+    }
+
+    @Test
+    public void assertThatItemPlacementPutsTheReturnsTemplateOnlyInTheItemDescription() {
+        PostmanRequest request = request(ReturnsTemplatePlacement.ITEM);
+
+        assertThat(request.description())
+                .hasValueSatisfying(description -> assertThat(description).contains(FENCE));
+        assertThat(request.request().description())
+                .hasValueSatisfying(description ->
+                        assertThat(description).startsWith("Gets the result.").doesNotContain(FENCE));
+    }
+
+    @Test
+    public void assertThatRequestPlacementPutsTheReturnsTemplateOnlyInTheRequestDescription() {
+        PostmanRequest request = request(ReturnsTemplatePlacement.REQUEST);
+
+        assertThat(request.description())
+                .hasValueSatisfying(description ->
+                        assertThat(description).startsWith("Gets the result.").doesNotContain(FENCE));
+        assertThat(request.request().description())
+                .hasValueSatisfying(description -> assertThat(description).contains(FENCE));
+    }
+
+    @Test
+    public void assertThatCompactTemplatesParseToThePrettyTemplates() throws IOException {
+        GeneratorConfiguration compact = GeneratorConfiguration.builder()
+                .from(CONFIG)
+                .compactTemplates(true)
+                .build();
+
+        String prettyReturns = returnsTemplate(request(CONFIG, "get"));
+        String compactReturns = returnsTemplate(request(compact, "get"));
+        String prettyBody = bodyTemplate(request(CONFIG, "set"));
+        String compactBody = bodyTemplate(request(compact, "set"));
+
+        assertThat(prettyReturns).contains("\n  ");
+        assertThat(compactReturns).doesNotContain("\n  ");
+        assertThat(MAPPER.readTree(compactReturns)).isEqualTo(MAPPER.readTree(prettyReturns));
+        assertThat(prettyBody).contains("\n  ");
+        assertThat(compactBody).doesNotContain("\n  ");
+        assertThat(MAPPER.readTree(compactBody)).isEqualTo(MAPPER.readTree(prettyBody));
+    }
+
+    /** Returns the template fenced in the item description. */
+    private static String returnsTemplate(PostmanRequest request) {
+        String description = request.description().orElseThrow();
+        return description.substring(description.indexOf(FENCE) + FENCE.length(), description.lastIndexOf("```"));
+    }
+
+    private static String bodyTemplate(PostmanRequest request) {
+        return ((PostmanRequest.RawBody) request.request().body().orElseThrow()).raw();
+    }
+
+    private static PostmanRequest request(ReturnsTemplatePlacement placement) {
+        return request(
+                GeneratorConfiguration.builder()
+                        .from(CONFIG)
+                        .returnsTemplate(placement)
+                        .build(),
+                "get");
+    }
+
+    private static PostmanRequest request(GeneratorConfiguration config, String endpoint) {
+        PostmanFolder folder = (PostmanFolder) new PostmanCollectionGenerator(config)
+                .generate(DEFINITION)
+                .items()
+                .get(0);
+        return folder.items().stream()
+                .map(PostmanRequest.class::cast)
+                .filter(request -> request.name().equals(endpoint))
+                .findFirst()
+                .orElseThrow();
+    }
+}
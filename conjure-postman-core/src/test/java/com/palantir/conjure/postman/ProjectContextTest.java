@@ -0,0 +1,93 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.ServiceDefinition;
+import com.palantir.conjure.spec.TypeName;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.Test;
+
+public final class ProjectContextTest {
+
+    private static final GeneratorConfiguration CONFIG = GeneratorConfiguration.builder()
+            .productName("Test Product")
+            .productVersion("0.0.0")
+            .apiPath("service-endpoint/api")
+            .idProvider(IdProvider.constant(new UUID(0, 0)))
+            .build();
+
+    private static final ConjureDefinition DEFINITION = SyntheticDefinitions.generate(SyntheticDefinitionSpec.builder()
+            .services(6)
+            .endpointsPerService(5)
+            .types(40)
+            .recursion(0.2)
+            .build());
+
+    @Test
+    public void assertThatSplitDefinitionsGenerateTheSameCollection() {
+        // Every part carries all types, as IR files compiled against a shared dependency would.
+        List<ConjureDefinition> parts = new ArrayList<>();
+        List<ServiceDefinition> services = DEFINITION.getServices();
+        for (int i = 0; i < services.size(); i += 2) {
+            parts.add(ConjureDefinition.builder()
+                    .version(DEFINITION.getVersion())
+                    .types(DEFINITION.getTypes())
+                    .services(services.subList(i, Math.min(i + 2, services.size())))
+                    .build());
+        }
+        ProjectContext project = ProjectContext.of("test", "test", parts);
+
+        assertThat(project.mergedDefinition().getTypes()).hasSameSizeAs(DEFINITION.getTypes());
+        assertThat(new PostmanCollectionGenerator(CONFIG).generate(project))
+                .isEqualTo(new PostmanCollectionGenerator(CONFIG).generate(DEFINITION));
+    }
+
+    @Test
+    public void assertThatConflictingTypesAreRejected() {
+        ConjureDefinition other = SyntheticDefinitions.generate(
+                SyntheticDefinitionSpec.builder().seed(1).services(0).types(40).build());
+        ProjectContext project = ProjectContext.of("test", "test", List.of(DEFINITION, other));
+
+        assertThatThrownBy(project::mergedDefinition)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Conflicting definitions of type com.palantir.synthetic.");
+    }
+
+    @Test
+    public void assertThatServicesSharingANameAcrossPackagesAreRejected() {
+        ServiceDefinition service = DEFINITION.getServices().get(0);
+        ConjureDefinition other = ConjureDefinition.builder()
+                .version(DEFINITION.getVersion())
+                .services(ServiceDefinition.builder()
+                        .serviceName(TypeName.of(service.getServiceName().getName(), "com.palantir.other"))
+                        .endpoints(service.getEndpoints())
+                        .build())
+                .build();
+        ProjectContext project = ProjectContext.of("test", "test", List.of(DEFINITION, other));
+
+        assertThatThrownBy(project::mergedDefinition)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Services com.palantir.synthetic.Service0 and com.palantir.other.Service0 share the name "
+                        + "Service0");
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import static com.palantir.conjure.postman.TestTypes.field;
+import static com.palantir.conjure.postman.TestTypes.list;
+import static com.palantir.conjure.postman.TestTypes.object;
+import static com.palantir.conjure.postman.TestTypes.optional;
+import static com.palantir.conjure.postman.TestTypes.reference;
+import static com.palantir.conjure.postman.TestTypes.typeName;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.palantir.conjure.postman.api.PostmanEvent;
+import com.palantir.conjure.postman.api.PostmanFolder;
+import com.palantir.conjure.postman.api.PostmanVariable;
+import com.palantir.conjure.postman.visitor.TemplateBudget;
+import com.palantir.conjure.postman.visitor.TypeRegistry;
+import com.palantir.conjure.postman.writer.DefaultPostmanCollectionFileWriter;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.EndpointDefinition;
+import com.palantir.conjure.spec.EndpointName;
+import com.palantir.conjure.spec.HttpMethod;
+import com.palantir.conjure.spec.HttpPath;
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.ServiceDefinition;
+import com.palantir.conjure.spec.Type;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ServiceFolderCacheTest {
+
+    private static final GeneratorConfiguration CONFIG = GeneratorConfiguration.builder()
+            .productName("Cached Product")
+            .productVersion("0.0.0")
+            .apiPath("cached/api")
+            .deterministicIds(true)
+            .build();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void assertThatWarmRunsReuseEveryFolderAndWriteTheSameBytes() throws IOException {
+        File cache = temporaryFolder.newFolder();
+        ConjureDefinition definition = definition(PrimitiveType.STRING);
+
+        ServiceFolderCache cold = new ServiceFolderCache(cache.toPath());
+        byte[] coldOutput = generate(CONFIG, definition, cold);
+        ServiceFolderCache warm = new ServiceFolderCache(cache.toPath());
+        byte[] warmOutput = generate(CONFIG, definition, warm);
+
+        assertThat(cold.rendered()).isEqualTo(3);
+        assertThat(cold.reused()).isZero();
+        assertThat(warm.rendered()).isZero();
+        assertThat(warm.reused()).isEqualTo(3);
+        assertThat(warmOutput).isEqualTo(coldOutput);
+    }
+
+    @Test
+    public void assertThatChangingATypeOnlyInvalidatesServicesReferencingItTransitively() throws IOException {
+        File cache = temporaryFolder.newFolder();
+        generate(CONFIG, definition(PrimitiveType.STRING), new ServiceFolderCache(cache.toPath()));
+
+        ConjureDefinition changed = definition(PrimitiveType.INTEGER);
+        ServiceFolderCache incremental = new ServiceFolderCache(cache.toPath());
+        byte[] output = generate(CONFIG, changed, incremental);
+
+        // Only MiddleService reaches Leaf, through a list field of Middle.
+        assertThat(incremental.rendered()).isEqualTo(1);
+        assertThat(incremental.reused()).isEqualTo(2);
+        assertThat(output)
+                .isEqualTo(generate(
+                        CONFIG,
+                        changed,
+                        new ServiceFolderCache(temporaryFolder.newFolder().toPath())));
+        assertThat(cache.list())
+                .as("the entry of the old MiddleService is pruned")
+                .hasSize(3);
+    }
+
+    @Test
+    public void assertThatChangingTheConfigurationInvalidatesEveryService() throws IOException {
+        File cache = temporaryFolder.newFolder();
+        ConjureDefinition definition = definition(PrimitiveType.STRING);
+        generate(CONFIG, definition, new ServiceFolderCache(cache.toPath()));
+
+        ServiceFolderCache compact = new ServiceFolderCache(cache.toPath());
+        generate(
+                GeneratorConfiguration.builder()
+                        .from(CONFIG)
+                        .compactTemplates(true)
+                        .build(),
+                definition,
+                compact);
+
+        assertThat(compact.rendered()).isEqualTo(3);
+        assertThat(compact.reused()).isZero();
+    }
+
+    @Test
+    public void assertThatChangingTheIdProviderInvalidatesEveryService() throws IOException {
+        File cache = temporaryFolder.newFolder();
+        ConjureDefinition definition = definition(PrimitiveType.STRING);
+        UUID second = new UUID(0, 2);
+        generate(
+                GeneratorConfiguration.builder()
+                        .from(CONFIG)
+                        .idProvider(IdProvider.constant(new UUID(0, 1)))
+                        .build(),
+                definition,
+                new ServiceFolderCache(cache.toPath()));
+
+        ServiceFolderCache incremental = new ServiceFolderCache(cache.toPath());
+        byte[] output = generate(
+                GeneratorConfiguration.builder()
+                        .from(CONFIG)
+                        .idProvider(IdProvider.constant(second))
+                        .build(),
+                definition,
+                incremental);
+
+        assertThat(incremental.rendered()).isEqualTo(3);
+        assertThat(new String(output, StandardCharsets.UTF_8))
+                .contains(second.toString())
+                .doesNotContain(new UUID(0, 1).toString());
+    }
+
+    @Test
+    public void assertThatProductsSharingAnApiBaseVariableDoNotShareFolders() throws IOException {
+        File cache = temporaryFolder.newFolder();
+        ConjureDefinition definition = definition(PrimitiveType.STRING);
+        // Both products use the CACHED_PRODUCT api base variable, but derive different name-based request ids.
+        GeneratorConfiguration lowerCase = GeneratorConfiguration.builder()
+                .from(CONFIG)
+                .productName("cached product")
+                .build();
+        generate(CONFIG, definition, new ServiceFolderCache(cache.toPath()));
+
+        ServiceFolderCache shared = new ServiceFolderCache(cache.toPath());
+        byte[] output = generate(lowerCase, definition, shared);
+
+        assertThat(shared.rendered()).isEqualTo(3);
+        assertThat(shared.reused()).isZero();
+        assertThat(output)
+                .isEqualTo(generate(
+                        lowerCase,
+                        definition,
+                        new ServiceFolderCache(temporaryFolder.newFolder().toPath())));
+    }
+
+    @Test
+    public void assertThatReusedServicesReportTheirTruncatedEndpoints() throws IOException {
+        File cache = temporaryFolder.newFolder();
+        ConjureDefinition definition = definition(PrimitiveType.STRING);
+        // Middle lists Leaf one level down, which a depth of one cuts off.
+        PostmanCollectionGenerator generator = new PostmanCollectionGenerator(GeneratorConfiguration.builder()
+                .from(CONFIG)
+                .templateBudget(TemplateBudget.builder().maxDepth(1).build())
+                .build());
+
+        GenerationReport cold = generator.generate(
+                definition,
+                new DefaultPostmanCollectionFileWriter(
+                        temporaryFolder.newFolder().toPath()),
+                new ServiceFolderCache(cache.toPath()));
+        ServiceFolderCache warmCache = new ServiceFolderCache(cache.toPath());
+        GenerationReport warm = generator.generate(
+                definition,
+                new DefaultPostmanCollectionFileWriter(
+                        temporaryFolder.newFolder().toPath()),
+                warmCache);
+
+        assertThat(cold.truncatedEndpoints()).containsExactly("MiddleService.get");
+        assertThat(warmCache.reused()).isEqualTo(3);
+        assertThat(warm.truncatedEndpoints()).isEqualTo(cold.truncatedEndpoints());
+    }
+
+    @Test
+    public void assertThatHashesFollowTransitiveAndRecursiveReferences() {
+        ConjureDefinition definition = definition(PrimitiveType.STRING);
+        TypeRegistry types = TypeRegistry.of(definition.getTypes());
+        TypeRegistry changedTypes =
+                TypeRegistry.of(definition(PrimitiveType.INTEGER).getTypes());
+        ServiceDefinition middle = definition.getServices().get(0);
+        ServiceDefinition other = definition.getServices().get(1);
+        ServiceDefinition recursive = definition.getServices().get(2);
+
+        assertThat(types.transitiveReferences(List.of(reference("Middle"))))
+                .containsExactlyInAnyOrder(typeName("Middle"), typeName("Leaf"));
+        assertThat(types.transitiveReferences(List.of(reference("Node")))).containsExactly(typeName("Node"));
+
+        ServiceHasher hasher = new ServiceHasher(types, "key");
+        ServiceHasher changedHasher = new ServiceHasher(changedTypes, "key");
+        assertThat(changedHasher.hash(middle)).isNotEqualTo(hasher.hash(middle));
+        assertThat(changedHasher.hash(other)).isEqualTo(hasher.hash(other));
+        assertThat(changedHasher.hash(recursive)).isEqualTo(hasher.hash(recursive));
+        assertThat(new ServiceHasher(types, "other key").hash(other)).isNotEqualTo(hasher.hash(other));
+    }
+
+    @Test
+    public void assertThatCachedFoldersReadBackTheirEventsAndVariables() {
+        PostmanFolder folder = PostmanFolder.builder()
+                .name("Folder")
+                .addEvents(PostmanEvent.Test.of(PostmanEvent.Script.NON_ERROR_STATUS))
+                .addEvents(PostmanEvent.PreRequest.of(PostmanEvent.Script.of("console.log(1);")))
+                .addVariables(PostmanVariable.builder()
+                        .key("PORT")
+                        .name("PORT")
+                        .value(443)
+                        .type(PostmanVariable.Type.NUMBER)
+                        .build())
+                .build();
+
+        CachedPostmanFolder cached = new CachedPostmanFolder(
+                new ObjectMapper().registerModule(new Jdk8Module()).valueToTree(folder));
+
+        assertThat(cached.name()).isEqualTo(folder.name());
+        assertThat(cached.description()).isEqualTo(folder.description());
+        assertThat(cached.events()).isEqualTo(folder.events());
+        assertThat(cached.variables()).isEqualTo(folder.variables());
+    }
+
+    private byte[] generate(GeneratorConfiguration config, ConjureDefinition definition, ServiceFolderCache cache)
+            throws IOException {
+        Path output = temporaryFolder.newFolder().toPath();
+        new PostmanCollectionGenerator(config)
+                .generate(definition, new DefaultPostmanCollectionFileWriter(output), cache);
+        try (Stream<Path> files = Files.list(output)) {
+            return Files.readAllBytes(files.findFirst().orElseThrow());
+        }
+    }
+
+    /** Three services returning Middle, which lists Leaf, the unrelated Other, and the self-referencing Node. */
+    private static ConjureDefinition definition(PrimitiveType leafType) {
+        return ConjureDefinition.builder()
+                .version(1)
+                .types(List.of(
+                        object("Leaf", field("value", Type.primitive(leafType))),
+                        object("Middle", field("leaves", list(reference("Leaf")))),
+                        object("Other", field("name", Type.primitive(PrimitiveType.STRING))),
+                        object("Node", field("next", optional(reference("Node"))))))
+                .services(List.of(
+                        service("MiddleService", "Middle"),
+                        service("OtherService", "Other"),
+                        service("RecursiveService", "Node")))
+                .build();
+    }
+
+    private static ServiceDefinition service(String name, String returns) {
+        return ServiceDefinition.builder()
+                .serviceName(typeName(name))
+                .endpoints(List.of(EndpointDefinition.builder()
+                        .endpointName(EndpointName.of("get"))
+                        .httpMethod(HttpMethod.GET)
+                        .httpPath(HttpPath.of("/" + name))
+                        .returns(reference(returns))
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.palantir.conjure.postman.api.PostmanCollection;
+import com.palantir.conjure.postman.visitor.TemplateCache;
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Generates synthetic definitions of growing size and checks that the work done per endpoint does not grow with the
+ * size of the definition. The definitions bound their reference window, so a linear generator expands a constant
+ * number of templates and emits a constant number of JSON nodes per endpoint. Only counts are compared, so the test
+ * does not depend on the speed of the machine; time and allocation are measured by the {@code ScalingBenchmark} in
+ * {@code conjure-postman-jmh}.
+ */
+public final class SyntheticScalingTest {
+
+    private static final GeneratorConfiguration CONFIG = GeneratorConfiguration.builder()
+            .productName("Synthetic Product")
+            .productVersion("0.0.0")
+            .apiPath("synthetic/api")
+            .build();
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+
+    private static final int[] SERVICES = {4, 8, 16, 32};
+    private static final int ENDPOINTS_PER_SERVICE = 20;
+    private static final int TYPES_PER_SERVICE = 25;
+
+    // Allowed growth of the per-endpoint counts from the smallest to the largest size; quadratic behaviour gives 8.
+    private static final double GROWTH_BUDGET = 1.5;
+
+    @Test
+    public void assertThatGenerationScalesLinearly() {
+        List<Measurement> measurements = new ArrayList<>();
+        for (int services : SERVICES) {
+            measurements.add(measure(services));
+        }
+
+        Measurement smallest = measurements.get(0);
+        Measurement largest = measurements.get(measurements.size() - 1);
+        assertThat(largest.perEndpoint(largest.templateMisses))
+                .as("template expansions per endpoint")
+                .isLessThan(GROWTH_BUDGET * smallest.perEndpoint(smallest.templateMisses));
+        assertThat(largest.perEndpoint(largest.serializedMisses))
+                .as("template serializations per endpoint")
+                .isLessThan(GROWTH_BUDGET * smallest.perEndpoint(smallest.serializedMisses));
+        assertThat(largest.perEndpoint(largest.nodes))
+                .as("collection JSON nodes per endpoint")
+                .isLessThan(GROWTH_BUDGET * smallest.perEndpoint(smallest.nodes));
+    }
+
+    private static Measurement measure(int services) {
+        TemplateCache templateCache = new TemplateCache();
+        PostmanCollection collection =
+                new PostmanCollectionGenerator(CONFIG).generate(definition(services), templateCache);
+        assertThat(collection.items()).hasSize(services);
+        return new Measurement(
+                services,
+                templateCache.misses(),
+                templateCache.serializedMisses(),
+                countNodes(MAPPER.valueToTree(collection)));
+    }
+
+    private static ConjureDefinition definition(int services) {
+        return SyntheticDefinitions.generate(SyntheticDefinitionSpec.builder()
+                .services(services)
+                .endpointsPerService(ENDPOINTS_PER_SERVICE)
+                .types(services * TYPES_PER_SERVICE)
+                .maxDepth(6)
+                .referenceWindow(50)
+                .containerDepth(2)
+                .recursion(0.1)
+                .maxUnionVariants(6)
+                .maxEnumValues(12)
+                .build());
+    }
+
+    private static long countNodes(JsonNode node) {
+        long nodes = 1;
+        for (JsonNode child : node) {
+            nodes += countNodes(child);
+        }
+        return nodes;
+    }
+
+    private static final class Measurement {
+        private final int services;
+        private final long templateMisses;
+        private final long serializedMisses;
+        private final long nodes;
+
+        private Measurement(int services, long templateMisses, long serializedMisses, long nodes) {
+            this.services = services;
+            this.templateMisses = templateMisses;
+            this.serializedMisses = serializedMisses;
+            this.nodes = nodes;
+        }
+
+        private double perEndpoint(long count) {
+            return (double) count / ((long) services * ENDPOINTS_PER_SERVICE);
+        }
+    }
+}
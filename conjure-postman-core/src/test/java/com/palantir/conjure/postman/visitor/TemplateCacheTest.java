@@ -0,0 +1,104 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.visitor;
+
+import static com.palantir.conjure.postman.TestTypes.field;
+import static com.palantir.conjure.postman.TestTypes.object;
+import static com.palantir.conjure.postman.TestTypes.optional;
+import static com.palantir.conjure.postman.TestTypes.reference;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.Type;
+import java.util.List;
+import org.junit.Test;
+
+public final class TemplateCacheTest {
+
+    // Leaf is referenced twice by Pair; A and B refer to each other and Holder references both.
+    private static final TypeRegistry TYPES = TypeRegistry.of(List.of(
+            object("Leaf", field("value", Type.primitive(PrimitiveType.STRING))),
+            object("Pair", field("first", reference("Leaf")), field("second", reference("Leaf"))),
+            object("A", field("b", optional(reference("B")))),
+            object("B", field("a", optional(reference("A")))),
+            object("Holder", field("a", reference("A")), field("b", reference("B")))));
+
+    @Test
+    public void assertThatReferencesAreExpandedOnce() {
+        TemplateCache cache = new TemplateCache();
+        TemplateTypeVisitor visitor = new TemplateTypeVisitor(TYPES, cache);
+
+        String template = visitor.writeTemplate(reference("Pair"));
+
+        assertThat(template)
+                .isEqualToIgnoringNewLines("{  \"first\" : {    \"value\" : \"{{STRING}}\"  },"
+                        + "  \"second\" : {    \"value\" : \"{{STRING}}\"  }}");
+        assertThat(cache.misses()).isEqualTo(2);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(2);
+
+        assertThat(visitor.writeTemplate(reference("Pair"))).isSameAs(template);
+        assertThat(cache.serializedHits()).isEqualTo(1);
+        assertThat(cache.serializedMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void assertThatRecursiveTemplatesDoNotDependOnWhereTheyWereFirstExpanded() {
+        TemplateTypeVisitor shared = new TemplateTypeVisitor(TYPES, new TemplateCache());
+        shared.writeTemplate(reference("Holder"));
+
+        for (String name : List.of("A", "B", "Holder")) {
+            assertThat(shared.writeCompactTemplate(reference(name)))
+                    .as(name)
+                    .isEqualTo(
+                            new TemplateTypeVisitor(TYPES, new TemplateCache()).writeCompactTemplate(reference(name)));
+        }
+        assertThat(shared.writeCompactTemplate(reference("A"))).isEqualTo("{\"b\":{\"a\":\"{{ Optional<A> }}\"}}");
+        assertThat(shared.writeCompactTemplate(reference("Holder")))
+                .isEqualTo("{\"a\":{\"b\":{\"a\":\"{{ Optional<A> }}\"}},\"b\":{\"a\":{\"b\":\"{{ Optional<B> }}\"}}}");
+    }
+
+    @Test
+    public void assertThatSerializedTemplatesAreEvictedBeyondTheirBound() {
+        String leaf = new TemplateTypeVisitor(TYPES, new TemplateCache()).writeTemplate(reference("Leaf"));
+        TemplateCache cache = new TemplateCache(TemplateBudget.unlimited(), leaf.length());
+        TemplateTypeVisitor visitor = new TemplateTypeVisitor(TYPES, cache);
+
+        visitor.writeTemplate(reference("Leaf"));
+        visitor.writeTemplate(reference("Leaf"));
+        assertThat(cache.serializedHits()).isEqualTo(1);
+
+        // Pair does not fit alongside Leaf, and is itself too large to be kept.
+        visitor.writeTemplate(reference("Pair"));
+        visitor.writeTemplate(reference("Leaf"));
+        visitor.writeTemplate(reference("Pair"));
+        assertThat(cache.serializedHits()).isEqualTo(1);
+        assertThat(cache.serializedMisses()).isEqualTo(4);
+    }
+
+    @Test
+    public void assertThatBoundedTemplatesRenderTheSameAsUnbounded() {
+        TemplateCache bounded = new TemplateCache(TemplateBudget.unlimited(), 0, 0);
+        TemplateTypeVisitor visitor = new TemplateTypeVisitor(TYPES, bounded);
+
+        for (String name : List.of("Pair", "A", "Holder")) {
+            assertThat(visitor.writeTemplate(reference(name)))
+                    .isEqualTo(new TemplateTypeVisitor(TYPES, new TemplateCache()).writeTemplate(reference(name)));
+        }
+        assertThat(bounded.size()).isZero();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.visitor;
+
+import static com.palantir.conjure.postman.TestTypes.field;
+import static com.palantir.conjure.postman.TestTypes.list;
+import static com.palantir.conjure.postman.TestTypes.object;
+import static com.palantir.conjure.postman.TestTypes.optional;
+import static com.palantir.conjure.postman.TestTypes.reference;
+import static com.palantir.conjure.postman.TestTypes.union;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.Type;
+import java.util.List;
+import org.junit.Test;
+
+public final class TemplateTruncatorTest {
+
+    // Outer nests Middle nests Leaf; Tree refers to itself and Node to itself through Branch.
+    private static final TypeRegistry TYPES = TypeRegistry.of(List.of(
+            object("Leaf", field("value", Type.primitive(PrimitiveType.STRING))),
+            object("Middle", field("leaf", reference("Leaf")), field("count", Type.primitive(PrimitiveType.INTEGER))),
+            object("Outer", field("middle", reference("Middle"))),
+            union(
+                    "Wide",
+                    field("text", Type.primitive(PrimitiveType.STRING)),
+                    field("leaf", reference("Leaf")),
+                    field("middle", reference("Middle")),
+                    field("leaves", list(reference("Leaf")))),
+            object(
+                    "Tree",
+                    field("value", Type.primitive(PrimitiveType.STRING)),
+                    field("children", list(reference("Tree")))),
+            object("Node", field("branch", reference("Branch"))),
+            object("Branch", field("node", optional(reference("Node"))))));
+
+    @Test
+    public void assertThatDeepObjectsAreCutOffBelowMaxDepth() {
+        assertThat(write(
+                        reference("Outer"), TemplateBudget.builder().maxDepth(2).build()))
+                .isEqualTo("{\"middle\":{\"leaf\":\"{{Leaf}}\",\"count\":\"{{INTEGER}}\"}}");
+        assertThat(write(
+                        list(reference("Outer")),
+                        TemplateBudget.builder().maxDepth(1).build()))
+                .isEqualTo("[{\"middle\":\"{{Middle}}\"}]");
+    }
+
+    @Test
+    public void assertThatOnlyTheFirstUnionVariantsAreExpanded() {
+        assertThat(write(
+                        reference("Wide"),
+                        TemplateBudget.builder().maxUnionVariants(1).build()))
+                .isEqualTo("{\"type\":\"text|leaf|middle|leaves\",\"oneOf\":{\"text\":\"{{STRING}}\","
+                        + "\"leaf\":\"{{Leaf}}\",\"middle\":\"{{Middle}}\",\"leaves\":\"{{List<Leaf>}}\"}}");
+    }
+
+    @Test
+    public void assertThatRecursiveTypesAreOnlyTruncatedBeyondTheirOwnCutOff() {
+        TemplateBudget budget = TemplateBudget.builder().maxDepth(1).build();
+        TemplateCache cache = new TemplateCache(budget);
+        TemplateTypeVisitor visitor = new TemplateTypeVisitor(TYPES, cache);
+
+        assertThat(visitor.writeCompactTemplate(reference("Tree")))
+                .isEqualTo("{\"value\":\"{{STRING}}\",\"children\":[\"{{Tree}}\"]}");
+        assertThat(cache.isTruncated(reference("Tree"))).isFalse();
+        assertThat(visitor.writeCompactTemplate(reference("Node"))).isEqualTo("{\"branch\":\"{{Branch}}\"}");
+        assertThat(cache.isTruncated(reference("Node"))).isTrue();
+    }
+
+    @Test
+    public void assertThatMaxNodesCutsOffAtTheDeepestLevelThatFits() {
+        assertThat(write(
+                        reference("Outer"), TemplateBudget.builder().maxNodes(4).build()))
+                .isEqualTo("{\"middle\":{\"leaf\":\"{{Leaf}}\",\"count\":\"{{INTEGER}}\"}}");
+        assertThat(write(
+                        reference("Outer"), TemplateBudget.builder().maxNodes(1).build()))
+                .isEqualTo("\"{{Outer}}\"");
+    }
+
+    @Test
+    public void assertThatMaxDepthZeroLeavesOnlyPlaceholders() {
+        TemplateBudget budget = TemplateBudget.builder().maxDepth(0).build();
+        assertThat(write(reference("Wide"), budget)).isEqualTo("\"{{Wide}}\"");
+        assertThat(write(list(reference("Outer")), budget)).isEqualTo("[\"{{Outer}}\"]");
+    }
+
+    @Test
+    public void assertThatTemplatesWithinBudgetAreNotMarkedTruncated() {
+        TemplateCache cache =
+                new TemplateCache(TemplateBudget.builder().maxDepth(3).build());
+        String template = new TemplateTypeVisitor(TYPES, cache).writeCompactTemplate(reference("Outer"));
+
+        assertThat(template)
+                .isEqualTo(
+                        new TemplateTypeVisitor(TYPES, new TemplateCache()).writeCompactTemplate(reference("Outer")));
+        assertThat(cache.isTruncated(reference("Outer"))).isFalse();
+    }
+
+    /** Writes the template of {@code type} within {@code budget}, checking that it is reported as truncated. */
+    private static String write(Type type, TemplateBudget budget) {
+        TemplateCache cache = new TemplateCache(budget);
+        String template = new TemplateTypeVisitor(TYPES, cache).writeCompactTemplate(type);
+        assertThat(cache.isTruncated(type)).isTrue();
+        return template;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.palantir.conjure.postman.GeneratorConfiguration;
+import com.palantir.conjure.postman.IdProvider;
+import com.palantir.conjure.postman.PostmanCollectionGenerator;
+import com.palantir.conjure.postman.SyntheticDefinitionSpec;
+import com.palantir.conjure.postman.SyntheticDefinitions;
+import com.palantir.conjure.postman.api.PostmanCollection;
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class DefaultPostmanCollectionFileWriterTest {
+
+    private static final GeneratorConfiguration CONFIG = GeneratorConfiguration.builder()
+            .productName("Compact Product")
+            .productVersion("0.0.0")
+            .apiPath("compact/api")
+            .idProvider(IdProvider.constant(new UUID(0, 0)))
+            .build();
+
+    private static final ConjureDefinition DEFINITION = SyntheticDefinitions.generate(SyntheticDefinitionSpec.builder()
+            .services(4)
+            .endpointsPerService(5)
+            .types(30)
+            .build());
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void assertThatCompactCollectionsParseToThePrettyCollection() throws IOException {
+        PostmanCollectionGenerator generator = new PostmanCollectionGenerator(CONFIG);
+        PostmanCollection collection = generator.generate(DEFINITION);
+        Path pretty = temporaryFolder.newFolder().toPath();
+        Path compact = temporaryFolder.newFolder().toPath();
+        Path streamedCompact = temporaryFolder.newFolder().toPath();
+
+        new DefaultPostmanCollectionFileWriter(pretty).write(collection);
+        new DefaultPostmanCollectionFileWriter(compact, true).write(collection);
+        generator.generate(DEFINITION, new DefaultPostmanCollectionFileWriter(streamedCompact, true));
+
+        Path file = PostmanCollectionFileWriter.getPath(collection);
+        String prettyJson = Files.readString(pretty.resolve(file), StandardCharsets.UTF_8);
+        String compactJson = Files.readString(compact.resolve(file), StandardCharsets.UTF_8);
+        assertThat(prettyJson).contains("\n  ");
+        assertThat(compactJson).doesNotContain("\n  ");
+        assertThat(MAPPER.readTree(compactJson)).isEqualTo(MAPPER.readTree(prettyJson));
+        assertThat(Files.readString(streamedCompact.resolve(file), StandardCharsets.UTF_8))
+                .isEqualTo(compactJson);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.conjure.postman.GeneratorConfiguration;
+import com.palantir.conjure.postman.IdProvider;
+import com.palantir.conjure.postman.PostmanCollectionGenerator;
+import com.palantir.conjure.postman.SyntheticDefinitionSpec;
+import com.palantir.conjure.postman.SyntheticDefinitions;
+import com.palantir.conjure.postman.api.PostmanCollection;
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class GzipPostmanCollectionFileWriterTest {
+
+    private static final GeneratorConfiguration CONFIG = GeneratorConfiguration.builder()
+            .productName("Gzip Product")
+            .productVersion("0.0.0")
+            .apiPath("gzip/api")
+            .idProvider(IdProvider.constant(new UUID(0, 0)))
+            .build();
+
+    private static final ConjureDefinition DEFINITION = SyntheticDefinitions.generate(SyntheticDefinitionSpec.builder()
+            .services(4)
+            .endpointsPerService(5)
+            .types(30)
+            .build());
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void assertThatCompressedCollectionsMatchThePlainWriter() throws IOException {
+        PostmanCollectionGenerator generator = new PostmanCollectionGenerator(CONFIG);
+        PostmanCollection collection = generator.generate(DEFINITION);
+        Path plain = temporaryFolder.newFolder().toPath();
+        Path gzip = temporaryFolder.newFolder().toPath();
+        Path streamedGzip = temporaryFolder.newFolder().toPath();
+
+        new DefaultPostmanCollectionFileWriter(plain).write(collection);
+        GzipPostmanCollectionFileWriter writer = new GzipPostmanCollectionFileWriter(gzip);
+        writer.write(collection);
+        generator.generate(DEFINITION, new GzipPostmanCollectionFileWriter(streamedGzip));
+
+        byte[] expected = Files.readAllBytes(plain.resolve(PostmanCollectionFileWriter.getPath(collection)));
+        Path compressed = gzip.resolve(GzipPostmanCollectionFileWriter.getPath(collection));
+        assertThat(decompress(compressed)).isEqualTo(expected);
+        assertThat(decompress(streamedGzip.resolve(GzipPostmanCollectionFileWriter.getPath(collection))))
+                .isEqualTo(expected);
+        assertThat(writer.bytesWritten()).hasValue(Files.size(compressed));
+    }
+
+    private static byte[] decompress(Path path) throws IOException {
+        try (InputStream is = new GZIPInputStream(Files.newInputStream(path))) {
+            return is.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import com.google.common.base.Preconditions;
+import com.palantir.tokens.auth.ImmutablesStyle;
+import org.immutables.value.Value;
+
+/** Shape of a definition produced by {@link SyntheticDefinitions}. */
+@Value.Immutable
+@ImmutablesStyle
+public interface SyntheticDefinitionSpec {
+
+    /** Seed of the pseudo-random choices; equal specs always produce equal definitions. */
+    @Value.Default
+    default long seed() {
+        return 0L;
+    }
+
+    @Value.Default
+    default int services() {
+        return 10;
+    }
+
+    @Value.Default
+    default int endpointsPerService() {
+        return 20;
+    }
+
+    @Value.Default
+    default int types() {
+        return 100;
+    }
+
+    /** Upper bound on the number of fields of each object. */
+    @Value.Default
+    default int maxFields() {
+        return 8;
+    }
+
+    /** Upper bound on the number of variants of each union, at least 2. */
+    @Value.Default
+    default int maxUnionVariants() {
+        return 4;
+    }
+
+    /** Upper bound on the number of values of each enum, at least 2. */
+    @Value.Default
+    default int maxEnumValues() {
+        return 6;
+    }
+
+    /**
+     * Longest chain of non-recursive references starting at any type, counting the type itself. A type made of
+     * primitives only has depth 1. Unbounded by default.
+     */
+    @Value.Default
+    default int maxDepth() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Number of preceding types each type may refer to. Bounding it keeps the size of expanded templates independent
+     * of {@link #types()}, so that the cost per endpoint does not grow with the definition. Unbounded by default.
+     */
+    @Value.Default
+    default int referenceWindow() {
+        return Integer.MAX_VALUE;
+    }
+
+    /** Upper bound on the number of containers (optional, list, set or map) nested around a field type. */
+    @Value.Default
+    default int containerDepth() {
+        return 1;
+    }
+
+    /**
+     * Probability that an object or union refers to itself or to a later type that refers back to it, putting it on a
+     * reference cycle.
+     */
+    @Value.Default
+    default double recursion() {
+        return 0.0;
+    }
+
+    @SuppressWarnings("PreferSafeLoggingPreconditions")
+    @Value.Check
+    default void check() {
+        Preconditions.checkArgument(services() >= 0, "services must not be negative");
+        Preconditions.checkArgument(endpointsPerService() >= 0, "endpointsPerService must not be negative");
+        Preconditions.checkArgument(types() >= 1, "types must be at least 1");
+        Preconditions.checkArgument(maxFields() >= 1, "maxFields must be at least 1");
+        Preconditions.checkArgument(maxUnionVariants() >= 2, "maxUnionVariants must be at least 2");
+        Preconditions.checkArgument(maxEnumValues() >= 2, "maxEnumValues must be at least 2");
+        Preconditions.checkArgument(maxDepth() >= 1, "maxDepth must be at least 1");
+        Preconditions.checkArgument(referenceWindow() >= 1, "referenceWindow must be at least 1");
+        Preconditions.checkArgument(containerDepth() >= 0, "containerDepth must not be negative");
+        Preconditions.checkArgument(recursion() >= 0 && recursion() <= 1, "recursion must be between 0 and 1");
+    }
+
+    final class Builder extends ImmutableSyntheticDefinitionSpec.Builder {}
+
+    static Builder builder() {
+        return new Builder();
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import com.palantir.conjure.spec.AliasDefinition;
+import com.palantir.conjure.spec.ArgumentDefinition;
+import com.palantir.conjure.spec.ArgumentName;
+import com.palantir.conjure.spec.BodyParameterType;
+import com.palantir.conjure.spec.ConjureDefinition;
+import com.palantir.conjure.spec.Documentation;
+import com.palantir.conjure.spec.EndpointDefinition;
+import com.palantir.conjure.spec.EndpointName;
+import com.palantir.conjure.spec.EnumDefinition;
+import com.palantir.conjure.spec.EnumValueDefinition;
+import com.palantir.conjure.spec.FieldDefinition;
+import com.palantir.conjure.spec.FieldName;
+import com.palantir.conjure.spec.HeaderParameterType;
+import com.palantir.conjure.spec.HttpMethod;
+import com.palantir.conjure.spec.HttpPath;
+import com.palantir.conjure.spec.ListType;
+import com.palantir.conjure.spec.MapType;
+import com.palantir.conjure.spec.ObjectDefinition;
+import com.palantir.conjure.spec.OptionalType;
+import com.palantir.conjure.spec.ParameterId;
+import com.palantir.conjure.spec.ParameterType;
+import com.palantir.conjure.spec.PathParameterType;
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.QueryParameterType;
+import com.palantir.conjure.spec.ServiceDefinition;
+import com.palantir.conjure.spec.SetType;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.spec.UnionDefinition;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates large, pseudo-random {@link ConjureDefinition}s for benchmarks and scaling tests. Types only refer to
+ * types defined before them, except for the recursive references requested by {@link SyntheticDefinitionSpec#recursion()},
+ * so the type graph is acyclic unless recursion is enabled.
+ */
+public final class SyntheticDefinitions {
+
+    private static final String PACKAGE = "com.palantir.synthetic";
+    private static final List<PrimitiveType> PRIMITIVES = List.of(
+            PrimitiveType.STRING,
+            PrimitiveType.INTEGER,
+            PrimitiveType.DOUBLE,
+            PrimitiveType.BOOLEAN,
+            PrimitiveType.DATETIME,
+            PrimitiveType.SAFELONG,
+            PrimitiveType.RID,
+            PrimitiveType.UUID);
+
+    private final SyntheticDefinitionSpec spec;
+    private final Random random;
+    // Depth of each type generated so far, see SyntheticDefinitionSpec#maxDepth.
+    private final int[] depths;
+    // Types that must refer back to an earlier type to close a reference cycle, and that earlier type.
+    private final Map<Integer, Integer> backReferences = new HashMap<>();
+    // Deepest type referenced by the type currently being generated.
+    private int referencedDepth;
+
+    private SyntheticDefinitions(SyntheticDefinitionSpec spec) {
+        this.spec = spec;
+        this.random = new Random(spec.seed());
+        this.depths = new int[spec.types()];
+    }
+
+    public static ConjureDefinition generate(SyntheticDefinitionSpec spec) {
+        return new SyntheticDefinitions(spec).generate();
+    }
+
+    private ConjureDefinition generate() {
+        List<TypeDefinition> types = new ArrayList<>();
+        for (int i = 0; i < spec.types(); i++) {
+            types.add(type(i));
+        }
+        List<ServiceDefinition> services = new ArrayList<>();
+        for (int i = 0; i < spec.services(); i++) {
+            services.add(service(i));
+        }
+        return ConjureDefinition.builder()
+                .version(1)
+                .types(types)
+                .services(services)
+                .build();
+    }
+
+    private TypeDefinition type(int index) {
+        referencedDepth = 0;
+        TypeDefinition type = definition(index);
+        depths[index] = referencedDepth + 1;
+        return type;
+    }
+
+    private TypeDefinition definition(int index) {
+        TypeName typeName = typeName(index);
+        int kind = random.nextInt(10);
+        Integer backReference = backReferences.remove(index);
+        if (kind < 6 || backReference != null) {
+            List<FieldDefinition> fields = fields(index, 1 + random.nextInt(spec.maxFields()));
+            recursiveFields(index, backReference, fields);
+            return TypeDefinition.object(
+                    ObjectDefinition.builder().typeName(typeName).fields(fields).build());
+        } else if (kind < 8) {
+            List<FieldDefinition> variants = fields(index, 2 + random.nextInt(spec.maxUnionVariants() - 1));
+            recursiveFields(index, null, variants);
+            return TypeDefinition.union(
+                    UnionDefinition.builder().typeName(typeName).union(variants).build());
+        } else if (kind < 9) {
+            List<EnumValueDefinition> values = new ArrayList<>();
+            int size = 2 + random.nextInt(spec.maxEnumValues() - 1);
+            for (int i = 0; i < size; i++) {
+                values.add(EnumValueDefinition.builder().value("VALUE_" + i).build());
+            }
+            return TypeDefinition.enum_(
+                    EnumDefinition.builder().typeName(typeName).values(values).build());
+        } else {
+            return TypeDefinition.alias(AliasDefinition.builder()
+                    .typeName(typeName)
+                    .alias(fieldType(index))
+                    .build());
+        }
+    }
+
+    private List<FieldDefinition> fields(int index, int count) {
+        List<FieldDefinition> fields = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            fields.add(FieldDefinition.builder()
+                    .fieldName(FieldName.of("field" + i))
+                    .type(fieldType(index))
+                    .build());
+        }
+        return fields;
+    }
+
+    /**
+     * Adds the fields that put the type at {@code index} on a reference cycle: one closing the cycle started by
+     * {@code backReference}, if any, and with probability {@link SyntheticDefinitionSpec#recursion()} one referring to
+     * itself or to a later type that will be made to refer back. Recursive fields are optional so that the types stay
+     * constructible.
+     */
+    private void recursiveFields(int index, Integer backReference, List<FieldDefinition> fields) {
+        if (backReference != null) {
+            fields.add(recursiveField("back", backReference));
+        }
+        if (spec.recursion() > 0 && random.nextDouble() < spec.recursion()) {
+            int target = index + random.nextInt(Math.min(spec.types() - index, spec.referenceWindow()));
+            if (target != index && !backReferences.containsKey(target)) {
+                backReferences.put(target, index);
+                fields.add(recursiveField("next", target));
+            } else {
+                fields.add(recursiveField("self", index));
+            }
+        }
+    }
+
+    private static FieldDefinition recursiveField(String name, int target) {
+        return FieldDefinition.builder()
+                .fieldName(FieldName.of(name))
+                .type(Type.optional(OptionalType.of(Type.reference(typeName(target)))))
+                .build();
+    }
+
+    /**
+     * Returns a primitive or a reference to one of the types in the window before {@code index} that keeps within the
+     * depth bound,
+     * nested in up to {@link SyntheticDefinitionSpec#containerDepth()} containers.
+     */
+    private Type fieldType(int index) {
+        int window = Math.min(index, spec.referenceWindow());
+        Type type = window == 0 || random.nextBoolean() ? null : reference(index - 1 - random.nextInt(window));
+        if (type == null) {
+            type = Type.primitive(PRIMITIVES.get(random.nextInt(PRIMITIVES.size())));
+        }
+        for (int i = 0; i < spec.containerDepth(); i++) {
+            switch (random.nextInt(8)) {
+                case 0:
+                    type = Type.optional(OptionalType.of(type));
+                    break;
+                case 1:
+                    type = Type.list(ListType.of(type));
+                    break;
+                case 2:
+                    type = Type.set(SetType.of(type));
+                    break;
+                case 3:
+                    type = Type.map(MapType.of(Type.primitive(PrimitiveType.STRING), type));
+                    break;
+                default:
+                    return type;
+            }
+        }
+        return type;
+    }
+
+    /** Returns a reference to the type at {@code target}, or null if referring to it would exceed the depth bound. */
+    private Type reference(int target) {
+        if (depths[target] >= spec.maxDepth()) {
+            return null;
+        }
+        referencedDepth = Math.max(referencedDepth, depths[target]);
+        return Type.reference(typeName(target));
+    }
+
+    private ServiceDefinition service(int index) {
+        List<EndpointDefinition> endpoints = new ArrayList<>();
+        for (int i = 0; i < spec.endpointsPerService(); i++) {
+            endpoints.add(endpoint(index, i));
+        }
+        return ServiceDefinition.builder()
+                .serviceName(TypeName.of("Service" + index, PACKAGE))
+                .endpoints(endpoints)
+                .docs(Documentation.of("Synthetic service " + index + "."))
+                .build();
+    }
+
+    private EndpointDefinition endpoint(int service, int index) {
+        boolean hasBody = random.nextInt(5) < 3;
+        EndpointDefinition.Builder endpoint = EndpointDefinition.builder()
+                .endpointName(EndpointName.of("endpoint" + index))
+                .httpMethod(hasBody ? HttpMethod.POST : HttpMethod.GET)
+                .httpPath(HttpPath.of(String.format("/service%d/endpoint%d/{id}", service, index)))
+                .docs(Documentation.of("Synthetic endpoint " + index + "."))
+                .args(ArgumentDefinition.builder()
+                        .argName(ArgumentName.of("id"))
+                        .type(Type.primitive(PrimitiveType.STRING))
+                        .paramType(ParameterType.path(PathParameterType.of()))
+                        .build());
+        if (random.nextBoolean()) {
+            endpoint.args(ArgumentDefinition.builder()
+                    .argName(ArgumentName.of("filter"))
+                    .type(Type.optional(OptionalType.of(Type.primitive(PrimitiveType.STRING))))
+                    .paramType(ParameterType.query(QueryParameterType.of(ParameterId.of("filter"))))
+                    .build());
+        }
+        if (random.nextInt(3) == 0) {
+            endpoint.args(ArgumentDefinition.builder()
+                    .argName(ArgumentName.of("trace"))
+                    .type(Type.primitive(PrimitiveType.STRING))
+                    .paramType(ParameterType.header(HeaderParameterType.of(ParameterId.of("X-Trace"))))
+                    .build());
+        }
+        if (hasBody) {
+            endpoint.args(ArgumentDefinition.builder()
+                    .argName(ArgumentName.of("body"))
+                    .type(Type.reference(typeName(random.nextInt(spec.types()))))
+                    .paramType(ParameterType.body(BodyParameterType.of()))
+                    .build());
+        }
+        if (random.nextInt(5) < 4) {
+            endpoint.returns(Type.reference(typeName(random.nextInt(spec.types()))));
+        }
+        return endpoint.build();
+    }
+
+    private static TypeName typeName(int index) {
+        return TypeName.of("Type" + index, PACKAGE);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import com.palantir.conjure.defs.Conjure;
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/** Parses the Conjure definitions that tests and benchmarks keep as {@code .yml} files in a folder. */
+public final class TestDefinitions {
+
+    private TestDefinitions() {}
+
+    /** Compiles every {@code .yml} file under {@code folder} into a single definition. */
+    public static ConjureDefinition parse(Path folder) throws IOException {
+        Files.createDirectories(folder);
+        try (Stream<Path> walk = Files.walk(folder)) {
+            List<File> files = walk.map(Path::toFile)
+                    .filter(file -> file.toString().endsWith(".yml"))
+                    .collect(Collectors.toList());
+
+            if (files.isEmpty()) {
+                throw new RuntimeException(
+                        folder + " contains no conjure.yml files, please write one to set up a new test");
+            }
+
+            return Conjure.parse(files);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman;
+
+import com.palantir.conjure.spec.FieldDefinition;
+import com.palantir.conjure.spec.FieldName;
+import com.palantir.conjure.spec.ListType;
+import com.palantir.conjure.spec.ObjectDefinition;
+import com.palantir.conjure.spec.OptionalType;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.spec.UnionDefinition;
+import java.util.List;
+
+/** Builders for the small type definitions that tests write out by hand, all in the {@link #PACKAGE} package. */
+public final class TestTypes {
+
+    public static final String PACKAGE = "com.palantir.test";
+
+    private TestTypes() {}
+
+    public static TypeDefinition object(String name, FieldDefinition... fields) {
+        return TypeDefinition.object(ObjectDefinition.builder()
+                .typeName(typeName(name))
+                .fields(List.of(fields))
+                .build());
+    }
+
+    public static TypeDefinition union(String name, FieldDefinition... variants) {
+        return TypeDefinition.union(UnionDefinition.builder()
+                .typeName(typeName(name))
+                .union(List.of(variants))
+                .build());
+    }
+
+    public static FieldDefinition field(String name, Type type) {
+        return FieldDefinition.builder()
+                .fieldName(FieldName.of(name))
+                .type(type)
+                .build();
+    }
+
+    public static Type optional(Type type) {
+        return Type.optional(OptionalType.of(type));
+    }
+
+    public static Type list(Type type) {
+        return Type.list(ListType.of(type));
+    }
+
+    public static Type reference(String name) {
+        return Type.reference(typeName(name));
+    }
+
+    public static TypeName typeName(String name) {
+        return TypeName.of(name, PACKAGE);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.jmh;
+
+import com.palantir.conjure.postman.GeneratorConfiguration;
+import com.palantir.conjure.postman.SyntheticDefinitionSpec;
+import com.palantir.conjure.postman.SyntheticDefinitions;
+import com.palantir.conjure.postman.TestDefinitions;
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Definitions the benchmarks run against: the core module's test IRs, named after their folder under
+ * {@code src/test/resources}, and synthetic definitions of increasing size.
+ */
+final class BenchmarkDefinitions {
+
+    static final GeneratorConfiguration CONFIG = GeneratorConfiguration.builder()
+            .productName("Benchmark Product")
+            .productVersion("1.0.0")
+            .apiPath("benchmark/api")
+            .build();
+
+    private static final String TEST_RESOURCES_PROPERTY = "conjure-postman.test-resources";
+
+    private BenchmarkDefinitions() {}
+
+    static ConjureDefinition load(String name) {
+        switch (name) {
+            case "synthetic-small":
+                return SyntheticDefinitions.generate(SyntheticDefinitionSpec.builder()
+                        .services(10)
+                        .endpointsPerService(10)
+                        .types(100)
+                        .build());
+            case "synthetic-large":
+                return SyntheticDefinitions.generate(SyntheticDefinitionSpec.builder()
+                        .services(100)
+                        .endpointsPerService(40)
+                        .types(2000)
+                        .build());
+            default:
+                return parse(Paths.get(System.getProperty(TEST_RESOURCES_PROPERTY, "src/test/resources"))
+                        .resolve(name));
+        }
+    }
+
+    private static ConjureDefinition parse(Path folder) {
+        try {
+            return TestDefinitions.parse(folder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.jmh;
+
+import com.palantir.conjure.postman.PostmanCollectionGenerator;
+import com.palantir.conjure.postman.api.PostmanCollection;
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Generates a complete collection in memory, from type registry to the last request. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+
+    @Param({"services", "types", "synthetic-small", "synthetic-large"})
+    public String definition;
+
+    private ConjureDefinition conjureDefinition;
+    private PostmanCollectionGenerator generator;
+
+    @Setup
+    public void setup() {
+        conjureDefinition = BenchmarkDefinitions.load(definition);
+        generator = new PostmanCollectionGenerator(BenchmarkDefinitions.CONFIG);
+    }
+
+    @Benchmark
+    public PostmanCollection generate() {
+        return generator.generate(conjureDefinition);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.jmh;
+
+import com.palantir.conjure.postman.PostmanCollectionGenerator;
+import com.palantir.conjure.postman.SyntheticDefinitionSpec;
+import com.palantir.conjure.postman.SyntheticDefinitions;
+import com.palantir.conjure.postman.api.PostmanCollection;
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Generates synthetic definitions of growing size with a bounded reference window, the shapes checked for linear
+ * growth by {@code SyntheticScalingTest}. A linear generator's time and allocation per operation grow in proportion to
+ * {@link #services}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScalingBenchmark {
+
+    private static final int ENDPOINTS_PER_SERVICE = 20;
+    private static final int TYPES_PER_SERVICE = 25;
+
+    @Param({"4", "8", "16", "32"})
+    public int services;
+
+    private ConjureDefinition conjureDefinition;
+    private PostmanCollectionGenerator generator;
+
+    @Setup
+    public void setup() {
+        conjureDefinition = SyntheticDefinitions.generate(SyntheticDefinitionSpec.builder()
+                .services(services)
+                .endpointsPerService(ENDPOINTS_PER_SERVICE)
+                .types(services * TYPES_PER_SERVICE)
+                .maxDepth(6)
+                .referenceWindow(50)
+                .containerDepth(2)
+                .recursion(0.1)
+                .maxUnionVariants(6)
+                .maxEnumValues(12)
+                .build());
+        generator = new PostmanCollectionGenerator(BenchmarkDefinitions.CONFIG);
+    }
+
+    @Benchmark
+    public PostmanCollection generate() {
+        return generator.generate(conjureDefinition);
+    }
+}
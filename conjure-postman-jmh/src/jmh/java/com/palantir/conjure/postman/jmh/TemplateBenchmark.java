@@ -0,0 +1,181 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.jmh;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.palantir.conjure.postman.visitor.TemplateCache;
+import com.palantir.conjure.postman.visitor.TemplateTypeVisitor;
+import com.palantir.conjure.postman.visitor.TypeRegistry;
+import com.palantir.conjure.spec.FieldDefinition;
+import com.palantir.conjure.spec.FieldName;
+import com.palantir.conjure.spec.ListType;
+import com.palantir.conjure.spec.MapType;
+import com.palantir.conjure.spec.ObjectDefinition;
+import com.palantir.conjure.spec.OptionalType;
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import com.palantir.conjure.spec.UnionDefinition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Expands the template of a single type with an empty {@link TemplateCache}, as the first endpoint referencing it
+ * would. The shapes stress nesting depth, object width and recursion respectively.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateBenchmark {
+
+    private static final String PACKAGE = "com.palantir.benchmark";
+    private static final int DEEP_DEPTH = 64;
+    private static final int WIDE_FIELDS = 512;
+    private static final int RECURSIVE_RING = 16;
+
+    @Param({"deep", "wide", "recursive"})
+    public String shape;
+
+    private TypeRegistry types;
+    private Type root;
+
+    @Setup
+    public void setup() {
+        List<TypeDefinition> definitions = new ArrayList<>();
+        switch (shape) {
+            case "deep":
+                deep(definitions);
+                break;
+            case "wide":
+                wide(definitions);
+                break;
+            case "recursive":
+                recursive(definitions);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown shape: " + shape);
+        }
+        types = TypeRegistry.of(definitions);
+        root = reference("Root");
+    }
+
+    /** Expands the template tree only. */
+    @Benchmark
+    public JsonNode expand() {
+        return root.accept(new TemplateTypeVisitor(types, new TemplateCache()));
+    }
+
+    /** Expands the template and serializes it as the pretty-printed JSON embedded in requests. */
+    @Benchmark
+    public String write() {
+        return new TemplateTypeVisitor(types, new TemplateCache()).writeTemplate(root);
+    }
+
+    /** A chain of objects, each holding a few primitives and the next object. */
+    private static void deep(List<TypeDefinition> definitions) {
+        for (int i = 0; i < DEEP_DEPTH; i++) {
+            List<FieldDefinition> fields = new ArrayList<>();
+            fields.add(field("name", Type.primitive(PrimitiveType.STRING)));
+            fields.add(field("count", Type.primitive(PrimitiveType.INTEGER)));
+            if (i + 1 < DEEP_DEPTH) {
+                fields.add(field("next", reference("Deep" + (i + 1))));
+            }
+            definitions.add(object(i == 0 ? "Root" : "Deep" + i, fields));
+        }
+    }
+
+    /** One object with many fields, referencing a handful of small shared objects. */
+    private static void wide(List<TypeDefinition> definitions) {
+        for (int i = 0; i < 16; i++) {
+            definitions.add(object(
+                    "Leaf" + i,
+                    List.of(
+                            field("id", Type.primitive(PrimitiveType.UUID)),
+                            field("value", Type.primitive(PrimitiveType.DOUBLE)))));
+        }
+        List<FieldDefinition> fields = new ArrayList<>();
+        for (int i = 0; i < WIDE_FIELDS; i++) {
+            Type type = i % 4 == 0
+                    ? reference("Leaf" + (i % 16))
+                    : Type.primitive(i % 2 == 0 ? PrimitiveType.STRING : PrimitiveType.SAFELONG);
+            fields.add(field("field" + i, type));
+        }
+        definitions.add(object("Root", fields));
+    }
+
+    /**
+     * A self-referencing tree whose nodes hold a union, and a ring of objects in which every member refers to the next
+     * and back to the root, so every type lies on several cycles.
+     */
+    private static void recursive(List<TypeDefinition> definitions) {
+        definitions.add(object(
+                "Root",
+                List.of(
+                        field("children", Type.list(ListType.of(reference("Root")))),
+                        field("parent", Type.optional(OptionalType.of(reference("Root")))),
+                        field("value", reference("Value")),
+                        field("ring", reference("Ring0")))));
+        definitions.add(TypeDefinition.union(UnionDefinition.builder()
+                .typeName(TypeName.of("Value", PACKAGE))
+                .union(List.of(
+                        field("text", Type.primitive(PrimitiveType.STRING)),
+                        field("node", reference("Root")),
+                        field("nodes", Type.map(MapType.of(Type.primitive(PrimitiveType.STRING), reference("Root"))))))
+                .build()));
+        for (int i = 0; i < RECURSIVE_RING; i++) {
+            definitions.add(object(
+                    "Ring" + i,
+                    List.of(
+                            field("next", reference("Ring" + ((i + 1) % RECURSIVE_RING))),
+                            field("root", Type.optional(OptionalType.of(reference("Root")))))));
+        }
+    }
+
+    private static TypeDefinition object(String name, List<FieldDefinition> fields) {
+        return TypeDefinition.object(ObjectDefinition.builder()
+                .typeName(TypeName.of(name, PACKAGE))
+                .fields(fields)
+                .build());
+    }
+
+    private static FieldDefinition field(String name, Type type) {
+        return FieldDefinition.builder()
+                .fieldName(FieldName.of(name))
+                .type(type)
+                .build();
+    }
+
+    private static Type reference(String name) {
+        return Type.reference(TypeName.of(name, PACKAGE));
+    }
+}
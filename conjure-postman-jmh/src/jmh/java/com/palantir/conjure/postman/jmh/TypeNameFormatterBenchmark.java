@@ -0,0 +1,71 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.jmh;
+
+import com.palantir.conjure.postman.visitor.TypeNameFormatterVisitor;
+import com.palantir.conjure.postman.visitor.TypeRegistry;
+import com.palantir.conjure.spec.AliasDefinition;
+import com.palantir.conjure.spec.ListType;
+import com.palantir.conjure.spec.MapType;
+import com.palantir.conjure.spec.OptionalType;
+import com.palantir.conjure.spec.PrimitiveType;
+import com.palantir.conjure.spec.SetType;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.spec.TypeName;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Formats the display name of a nested container type, as done for every parameter of every endpoint. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeNameFormatterBenchmark {
+
+    private TypeNameFormatterVisitor formatter;
+    private Type type;
+
+    @Setup
+    public void setup() {
+        TypeName id = TypeName.of("ResourceId", "com.palantir.benchmark");
+        formatter = new TypeNameFormatterVisitor(TypeRegistry.of(List.of(TypeDefinition.alias(AliasDefinition.builder()
+                .typeName(id)
+                .alias(Type.primitive(PrimitiveType.RID))
+                .build()))));
+        type = Type.optional(OptionalType.of(Type.map(MapType.of(
+                Type.primitive(PrimitiveType.STRING),
+                Type.list(ListType.of(Type.set(SetType.of(Type.reference(id)))))))));
+    }
+
+    @Benchmark
+    public String format() {
+        return type.accept(formatter);
+    }
+}
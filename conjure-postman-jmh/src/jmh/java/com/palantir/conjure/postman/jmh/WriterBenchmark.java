@@ -0,0 +1,98 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.jmh;
+
+import com.palantir.conjure.postman.PostmanCollectionGenerator;
+import com.palantir.conjure.postman.api.PostmanCollection;
+import com.palantir.conjure.postman.writer.DefaultPostmanCollectionFileWriter;
+import com.palantir.conjure.postman.writer.GzipPostmanCollectionFileWriter;
+import com.palantir.conjure.postman.writer.PostmanCollectionFileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Serializes an already generated collection to disk with each of the available writers. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriterBenchmark {
+
+    public enum Format {
+        PRETTY,
+        COMPACT,
+        GZIP
+    }
+
+    @Param({"services", "synthetic-large"})
+    public String definition;
+
+    @Param
+    public Format format;
+
+    private Path outputDirectory;
+    private PostmanCollection collection;
+    private PostmanCollectionFileWriter writer;
+
+    @Setup
+    public void setup() throws IOException {
+        outputDirectory = Files.createTempDirectory("conjure-postman-jmh");
+        collection = new PostmanCollectionGenerator(BenchmarkDefinitions.CONFIG)
+                .generate(BenchmarkDefinitions.load(definition));
+        switch (format) {
+            case PRETTY:
+                writer = new DefaultPostmanCollectionFileWriter(outputDirectory);
+                break;
+            case COMPACT:
+                writer = new DefaultPostmanCollectionFileWriter(outputDirectory, true);
+                break;
+            case GZIP:
+                writer = new GzipPostmanCollectionFileWriter(outputDirectory);
+                break;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(outputDirectory)) {
+            files.sorted(Comparator.reverseOrder())
+                    .forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void write() {
+        writer.write(collection);
+    }
+}
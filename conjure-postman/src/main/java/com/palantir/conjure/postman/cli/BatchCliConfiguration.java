@@ -0,0 +1,75 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.cli;
+
+import com.palantir.logsafe.Preconditions;
+import java.io.File;
+import org.apache.commons.cli.Option;
+import org.immutables.value.Value;
+
+@Value.Immutable
+public abstract class BatchCliConfiguration {
+
+    abstract File manifest();
+
+    /** Number of collections generated concurrently. */
+    @Value.Default
+    int parallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    @Value.Default
+    boolean incremental() {
+        return false;
+    }
+
+    /** Quiet period in milliseconds that the {@code watch} command waits for before regenerating. */
+    @Value.Default
+    long debounceMillis() {
+        return 200;
+    }
+
+    @Value.Check
+    final void check() {
+        Preconditions.checkArgument(manifest().isFile(), "Manifest must exist and be a file");
+        Preconditions.checkArgument(parallelism() >= 1, "Parallelism must be at least 1");
+        Preconditions.checkArgument(debounceMillis() >= 0, "Debounce must not be negative");
+    }
+
+    static BatchCliConfiguration of(String manifest, Option[] options) {
+        Builder builder = new Builder().manifest(new File(manifest));
+        for (Option option : options) {
+            switch (option.getLongOpt()) {
+                case CliConfiguration.PARALLELISM:
+                    builder.parallelism(Integer.parseInt(option.getValue()));
+                    break;
+                case CliConfiguration.INCREMENTAL:
+                    builder.incremental(true);
+                    break;
+                case CliConfiguration.DEBOUNCE:
+                    builder.debounceMillis(Long.parseLong(option.getValue()));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        return builder.build();
+    }
+
+    public static final class Builder extends ImmutableBatchCliConfiguration.Builder {}
+}
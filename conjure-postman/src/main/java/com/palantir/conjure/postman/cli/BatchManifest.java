@@ -0,0 +1,90 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.cli;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.util.List;
+import java.util.Optional;
+import org.immutables.value.Value;
+
+/**
+ * Lists the collections generated by a single {@code batch} invocation. Relative paths are resolved against the
+ * directory containing the manifest. Besides the product, each target takes the output and template options of the
+ * {@code generate} command under the same names, such as {@code "gzip": true} or {@code "maxTemplateDepth": 4}.
+ */
+@Value.Immutable
+@JsonDeserialize(as = ImmutableBatchManifest.class)
+public interface BatchManifest {
+
+    List<Target> targets();
+
+    @Value.Immutable
+    @JsonDeserialize(as = ImmutableTarget.class)
+    interface Target {
+
+        String target();
+
+        String outputDirectory();
+
+        String productName();
+
+        String productVersion();
+
+        Optional<String> productDescription();
+
+        Optional<String> apiPath();
+
+        /** Descriptions that include the return type's template, as for {@code --returnsTemplate}. */
+        Optional<String> returnsTemplate();
+
+        Optional<Integer> maxTemplateDepth();
+
+        Optional<Integer> maxTemplateNodes();
+
+        Optional<Integer> maxUnionVariants();
+
+        @Value.Default
+        default boolean compact() {
+            return false;
+        }
+
+        @Value.Default
+        default boolean compactTemplates() {
+            return false;
+        }
+
+        @Value.Default
+        default boolean gzip() {
+            return false;
+        }
+
+        @Value.Default
+        default boolean perService() {
+            return false;
+        }
+
+        @Value.Default
+        default boolean deterministicIds() {
+            return false;
+        }
+
+        @Value.Default
+        default boolean metrics() {
+            return false;
+        }
+    }
+}
@@ -16,8 +16,11 @@
 
 package com.palantir.conjure.postman.cli;
 
+import com.palantir.conjure.postman.ReturnsTemplatePlacement;
+import com.palantir.conjure.postman.visitor.TemplateBudget;
 import com.palantir.logsafe.Preconditions;
 import java.io.File;
+import java.util.Locale;
 import java.util.Optional;
 import org.apache.commons.cli.Option;
 import org.immutables.value.Value;
@@ -28,6 +31,19 @@ public abstract class CliConfiguration {
     public static final String PRODUCT_DESCRIPTION = "productDescription";
     public static final String PRODUCT_VERSION = "productVersion";
     public static final String API_PATH = "apiPath";
+    public static final String PARALLELISM = "parallelism";
+    public static final String INCREMENTAL = "incremental";
+    public static final String DEBOUNCE = "debounce";
+    public static final String RETURNS_TEMPLATE = "returnsTemplate";
+    public static final String MAX_TEMPLATE_DEPTH = "maxTemplateDepth";
+    public static final String MAX_TEMPLATE_NODES = "maxTemplateNodes";
+    public static final String MAX_UNION_VARIANTS = "maxUnionVariants";
+    public static final String COMPACT = "compact";
+    public static final String COMPACT_TEMPLATES = "compactTemplates";
+    public static final String GZIP = "gzip";
+    public static final String PER_SERVICE = "perService";
+    public static final String DETERMINISTIC_IDS = "deterministicIds";
+    public static final String METRICS = "metrics";
 
     abstract File target();
 
@@ -41,9 +57,54 @@ public abstract class CliConfiguration {
 
     abstract Optional<String> apiPath();
 
+    abstract Optional<Integer> parallelism();
+
+    abstract Optional<ReturnsTemplatePlacement> returnsTemplate();
+
+    @Value.Default
+    boolean compact() {
+        return false;
+    }
+
+    @Value.Default
+    boolean compactTemplates() {
+        return false;
+    }
+
+    @Value.Default
+    boolean gzip() {
+        return false;
+    }
+
+    @Value.Default
+    boolean perService() {
+        return false;
+    }
+
+    @Value.Default
+    boolean deterministicIds() {
+        return false;
+    }
+
+    @Value.Default
+    boolean metrics() {
+        return false;
+    }
+
+    @Value.Default
+    TemplateBudget templateBudget() {
+        return TemplateBudget.unlimited();
+    }
+
+    @Value.Default
+    boolean incremental() {
+        return false;
+    }
+
     @Value.Check
     final void check() {
-        Preconditions.checkArgument(target().isFile(), "Target must exist and be a file");
+        Preconditions.checkArgument(
+                target().isFile() || target().isDirectory(), "Target must exist and be a file or directory");
         Preconditions.checkArgument(outputDirectory().isDirectory(), "Output must exist and be a directory");
     }
 
@@ -53,6 +114,7 @@ public abstract class CliConfiguration {
 
     static CliConfiguration of(String target, String outputDirectory, Option[] options) {
         Builder builder = new Builder().target(new File(target)).outputDirectory(new File(outputDirectory));
+        TemplateBudget.Builder templateBudget = TemplateBudget.builder();
         for (Option option : options) {
             switch (option.getLongOpt()) {
                 case PRODUCT_NAME:
@@ -67,12 +129,53 @@ public abstract class CliConfiguration {
                 case API_PATH:
                     builder.apiPath(option.getValue());
                     break;
+                case PARALLELISM:
+                    builder.parallelism(Integer.parseInt(option.getValue()));
+                    break;
+                case INCREMENTAL:
+                    builder.incremental(true);
+                    break;
+                case RETURNS_TEMPLATE:
+                    builder.returnsTemplate(returnsTemplate(option.getValue()));
+                    break;
+                case COMPACT:
+                    builder.compact(true);
+                    break;
+                case COMPACT_TEMPLATES:
+                    builder.compactTemplates(true);
+                    break;
+                case GZIP:
+                    builder.gzip(true);
+                    break;
+                case PER_SERVICE:
+                    builder.perService(true);
+                    break;
+                case DETERMINISTIC_IDS:
+                    builder.deterministicIds(true);
+                    break;
+                case METRICS:
+                    builder.metrics(true);
+                    break;
+                case MAX_TEMPLATE_DEPTH:
+                    templateBudget.maxDepth(Integer.parseInt(option.getValue()));
+                    break;
+                case MAX_TEMPLATE_NODES:
+                    templateBudget.maxNodes(Integer.parseInt(option.getValue()));
+                    break;
+                case MAX_UNION_VARIANTS:
+                    templateBudget.maxUnionVariants(Integer.parseInt(option.getValue()));
+                    break;
                 default:
                     break;
             }
         }
 
-        return builder.build();
+        return builder.templateBudget(templateBudget.build()).build();
+    }
+
+    /** Parses a returns template placement as given on the command line or in a batch manifest, such as {@code item}. */
+    static ReturnsTemplatePlacement returnsTemplate(String placement) {
+        return ReturnsTemplatePlacement.valueOf(placement.toUpperCase(Locale.ROOT));
     }
 
     public static final class Builder extends ImmutableCliConfiguration.Builder {}
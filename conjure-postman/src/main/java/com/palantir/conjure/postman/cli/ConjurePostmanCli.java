@@ -20,14 +20,39 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.google.common.base.Throwables;
+import com.palantir.conjure.postman.GenerationReport;
 import com.palantir.conjure.postman.GeneratorConfiguration;
 import com.palantir.conjure.postman.PostmanCollectionGenerator;
+import com.palantir.conjure.postman.ProjectContext;
+import com.palantir.conjure.postman.ServiceFolderCache;
+import com.palantir.conjure.postman.visitor.TemplateBudget;
 import com.palantir.conjure.postman.writer.DefaultPostmanCollectionFileWriter;
+import com.palantir.conjure.postman.writer.GzipPostmanCollectionFileWriter;
 import com.palantir.conjure.postman.writer.PostmanCollectionFileWriter;
 import com.palantir.conjure.spec.ConjureDefinition;
 import com.palantir.logsafe.Preconditions;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -38,8 +63,13 @@ import org.apache.commons.cli.ParseException;
 
 public final class ConjurePostmanCli {
     public static final String GENERATE_COMMAND = "generate";
+    public static final String BATCH_COMMAND = "batch";
+    public static final String WATCH_COMMAND = "watch";
     private static final String CLI_NAME = "conjure-postman";
+    private static final String CACHE_DIRECTORY = ".conjure-postman-cache";
     private static final String USAGE = String.format("%s %s <target> <output>", CLI_NAME, GENERATE_COMMAND);
+    private static final String BATCH_USAGE = String.format("%s %s <manifest>", CLI_NAME, BATCH_COMMAND);
+    private static final String WATCH_USAGE = String.format("%s %s <manifest>", CLI_NAME, WATCH_COMMAND);
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
             .registerModule(new Jdk8Module())
             .setSerializationInclusion(JsonInclude.Include.NON_ABSENT);
@@ -47,8 +77,15 @@ public final class ConjurePostmanCli {
     private ConjurePostmanCli() {}
 
     public static void main(String[] args) {
-        CliConfiguration cliConfig = resolveCliConfiguration(args);
-        generate(cliConfig.target(), cliConfig.outputDirectory(), resolveGeneratorConfiguration(cliConfig));
+        if (args.length > 0 && BATCH_COMMAND.equals(args[0])) {
+            generateBatch(resolveBatchCliConfiguration(args));
+            return;
+        }
+        if (args.length > 0 && WATCH_COMMAND.equals(args[0])) {
+            watch(resolveBatchCliConfiguration(args));
+            return;
+        }
+        generate(resolveCliConfiguration(args), true);
     }
 
     static CliConfiguration resolveCliConfiguration(String[] args) {
@@ -80,6 +117,64 @@ public final class ConjurePostmanCli {
                 .longOpt(CliConfiguration.API_PATH)
                 .argName("apiPath")
                 .build());
+        options.addOption(Option.builder()
+                .hasArg()
+                .desc("number of threads used to parse IR files and render services and endpoints")
+                .longOpt(CliConfiguration.PARALLELISM)
+                .argName("threads")
+                .build());
+        options.addOption(Option.builder()
+                .desc("reuse folders of services unchanged since the previous generation")
+                .longOpt(CliConfiguration.INCREMENTAL)
+                .build());
+        options.addOption(Option.builder()
+                .hasArg()
+                .desc("descriptions that include the JSON template of the return type: both (default), item or request")
+                .longOpt(CliConfiguration.RETURNS_TEMPLATE)
+                .argName("placement")
+                .build());
+        options.addOption(Option.builder()
+                .hasArg()
+                .desc("deepest level of nested objects and unions expanded in templates")
+                .longOpt(CliConfiguration.MAX_TEMPLATE_DEPTH)
+                .argName("depth")
+                .build());
+        options.addOption(Option.builder()
+                .hasArg()
+                .desc("maximum number of JSON nodes in each template")
+                .longOpt(CliConfiguration.MAX_TEMPLATE_NODES)
+                .argName("nodes")
+                .build());
+        options.addOption(Option.builder()
+                .hasArg()
+                .desc("maximum number of variants expanded for each union")
+                .longOpt(CliConfiguration.MAX_UNION_VARIANTS)
+                .argName("variants")
+                .build());
+        options.addOption(Option.builder()
+                .desc("write the collection without indentation")
+                .longOpt(CliConfiguration.COMPACT)
+                .build());
+        options.addOption(Option.builder()
+                .desc("write request bodies and return templates without indentation")
+                .longOpt(CliConfiguration.COMPACT_TEMPLATES)
+                .build());
+        options.addOption(Option.builder()
+                .desc("write the collection gzip-compressed to <name>.postman_collection.json.gz")
+                .longOpt(CliConfiguration.GZIP)
+                .build());
+        options.addOption(Option.builder()
+                .desc("write one collection per service, named after the product and the service")
+                .longOpt(CliConfiguration.PER_SERVICE)
+                .build());
+        options.addOption(Option.builder()
+                .desc("derive ids from names so that unchanged definitions produce identical collections")
+                .longOpt(CliConfiguration.DETERMINISTIC_IDS)
+                .build());
+        options.addOption(Option.builder()
+                .desc("write timings, template sizes and memory use to <name>.metrics.json next to the collection")
+                .longOpt(CliConfiguration.METRICS)
+                .build());
 
         try {
             CommandLine cmd = parser.parse(options, args, false);
@@ -98,23 +193,373 @@ public final class ConjurePostmanCli {
         }
     }
 
+    static BatchCliConfiguration resolveBatchCliConfiguration(String[] args) {
+        CommandLineParser parser = new DefaultParser();
+        HelpFormatter hf = new HelpFormatter();
+        boolean watch = args.length > 0 && WATCH_COMMAND.equals(args[0]);
+
+        Options options = new Options();
+        options.addOption(Option.builder()
+                .hasArg()
+                .desc("number of collections generated concurrently")
+                .longOpt(CliConfiguration.PARALLELISM)
+                .argName("threads")
+                .build());
+        options.addOption(Option.builder()
+                .desc("reuse folders of services unchanged since the previous generation")
+                .longOpt(CliConfiguration.INCREMENTAL)
+                .build());
+        if (watch) {
+            options.addOption(Option.builder()
+                    .hasArg()
+                    .desc("milliseconds without further changes to wait for before regenerating")
+                    .longOpt(CliConfiguration.DEBOUNCE)
+                    .argName("millis")
+                    .build());
+        }
+
+        try {
+            CommandLine cmd = parser.parse(options, args, false);
+            String[] parsedArgs = cmd.getArgs();
+            Preconditions.checkArgument(parsedArgs.length == 2 && (watch || BATCH_COMMAND.equals(args[0])));
+
+            return BatchCliConfiguration.of(parsedArgs[1], cmd.getOptions());
+        } catch (ParseException | IllegalArgumentException e) {
+            hf.printHelp(watch ? WATCH_USAGE : BATCH_USAGE, options, true);
+            Throwables.throwIfUnchecked(e);
+            throw new RuntimeException(e);
+        }
+    }
+
     static GeneratorConfiguration resolveGeneratorConfiguration(CliConfiguration cliConfig) {
-        return GeneratorConfiguration.builder()
-                .productName(cliConfig.productName())
+        GeneratorConfiguration.Builder builder = GeneratorConfiguration.builder();
+        builder.productName(cliConfig.productName())
                 .productVersion(cliConfig.productVersion())
                 .productDescription(cliConfig.productDescription())
-                .apiPath(cliConfig.apiPath())
-                .build();
+                .apiPath(cliConfig.apiPath());
+        cliConfig.parallelism().ifPresent(builder::parallelism);
+        cliConfig.returnsTemplate().ifPresent(builder::returnsTemplate);
+        builder.compactTemplates(cliConfig.compactTemplates());
+        builder.deterministicIds(cliConfig.deterministicIds());
+        builder.recordMetrics(cliConfig.metrics());
+        builder.templateBudget(cliConfig.templateBudget());
+        return builder.build();
+    }
+
+    /**
+     * Generates the collection described by {@code cliConfig}. Heap pools are shared by the whole JVM, so
+     * {@code measurePeakHeap} must only be set when no other generation runs concurrently.
+     */
+    static void generate(CliConfiguration cliConfig, boolean measurePeakHeap) {
+        generate(
+                cliConfig.target(),
+                cliConfig.outputDirectory(),
+                resolveGeneratorConfiguration(cliConfig),
+                cliConfig.incremental(),
+                cliConfig.perService(),
+                measurePeakHeap,
+                collectionWriter(cliConfig));
     }
 
     static void generate(File target, File outputDirectory, GeneratorConfiguration config) {
+        generate(
+                target,
+                outputDirectory,
+                config,
+                false,
+                false,
+                false,
+                new DefaultPostmanCollectionFileWriter(outputDirectory.toPath()));
+    }
+
+    /**
+     * Generates the collection for {@code target}, an IR file or a directory of IR files merged into a single
+     * {@link ProjectContext}, and hands it to {@code writer}. When {@code incremental}, rendered
+     * service folders are kept in a cache directory under {@code outputDirectory} and reused on the next run for
+     * services that have not changed. When {@code perService}, each service is written as a collection of its own.
+     * When {@link GeneratorConfiguration#recordMetrics()} is set, a {@link GenerationMetrics} report is written to
+     * {@code outputDirectory} as well, including the peak heap use if {@code measurePeakHeap}. Measuring resets the
+     * peak usage of the JVM's heap pools, so it is only done for a single-target run.
+     */
+    @SuppressWarnings("BanSystemOut")
+    static void generate(
+            File target,
+            File outputDirectory,
+            GeneratorConfiguration config,
+            boolean incremental,
+            boolean perService,
+            boolean measurePeakHeap,
+            PostmanCollectionFileWriter writer) {
         try {
-            ConjureDefinition conjureDefinition = OBJECT_MAPPER.readValue(target, ConjureDefinition.class);
-            PostmanCollectionFileWriter writer = new DefaultPostmanCollectionFileWriter(outputDirectory.toPath());
+            List<MemoryPoolMXBean> heapPools = measurePeakHeap && config.recordMetrics()
+                    ? ManagementFactory.getMemoryPoolMXBeans().stream()
+                            .filter(pool -> pool.getType() == MemoryType.HEAP)
+                            .collect(Collectors.toList())
+                    : Collections.emptyList();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+            long start = System.nanoTime();
+            ConjureDefinition conjureDefinition = parseDefinitions(target, outputDirectory, config);
+            long parsed = System.nanoTime();
             PostmanCollectionGenerator generator = new PostmanCollectionGenerator(config);
-            writer.write(generator.generate(conjureDefinition));
-        } catch (IOException e) {
+            GenerationReport report;
+            if (incremental) {
+                Path cacheDirectory = outputDirectory
+                        .toPath()
+                        .resolve(CACHE_DIRECTORY)
+                        .resolve(config.productName().replace(' ', '-'));
+                ServiceFolderCache folderCache = new ServiceFolderCache(cacheDirectory);
+                report = perService
+                        ? generator.generatePerService(conjureDefinition, writer, folderCache)
+                        : generator.generate(conjureDefinition, writer, folderCache);
+            } else {
+                report = perService
+                        ? generator.generatePerService(conjureDefinition, writer)
+                        : generator.generate(conjureDefinition, writer);
+            }
+            if (!report.truncatedEndpoints().isEmpty()) {
+                System.out.printf(
+                        "%s: templates of %d endpoints were truncated to fit the template budget: %s%n",
+                        config.productName(),
+                        report.truncatedEndpoints().size(),
+                        String.join(", ", report.truncatedEndpoints()));
+            }
+            if (config.recordMetrics()) {
+                writeMetrics(
+                        outputDirectory,
+                        GenerationMetrics.builder()
+                                .productName(config.productName())
+                                .productVersion(config.productVersion())
+                                .parseNanos(parsed - start)
+                                .generateNanos(System.nanoTime() - parsed)
+                                .bytesWritten(writer.bytesWritten())
+                                .peakHeapBytes(
+                                        heapPools.isEmpty()
+                                                ? OptionalLong.empty()
+                                                : OptionalLong.of(peakUsage(heapPools)))
+                                .generation(report)
+                                .build());
+            }
+        } catch (IOException | UncheckedIOException e) {
             throw new RuntimeException(String.format("Error parsing definition: %s", e.toString()));
         }
     }
+
+    private static long peakUsage(List<MemoryPoolMXBean> pools) {
+        return pools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+    }
+
+    /**
+     * Parses {@code target}, or every {@code .json} IR file under it if it is a directory. The files of a directory
+     * are parsed concurrently, up to {@link GeneratorConfiguration#parallelism()} at a time, and merged. Files written
+     * by previous runs into {@code outputDirectory}, when it is or lies within {@code target}, are not taken as IR.
+     */
+    private static ConjureDefinition parseDefinitions(File target, File outputDirectory, GeneratorConfiguration config)
+            throws IOException {
+        if (!target.isDirectory()) {
+            return parseDefinition(target);
+        }
+        Path root = target.toPath().toAbsolutePath().normalize();
+        Path output = outputDirectory.toPath().toAbsolutePath().normalize();
+        List<File> files;
+        try (Stream<Path> walk = Files.walk(target.toPath())) {
+            files = walk.filter(Files::isRegularFile)
+                    .filter(path -> path.toString().endsWith(".json"))
+                    .filter(path -> !isGeneratorOutput(path.toAbsolutePath().normalize(), root, output))
+                    .sorted()
+                    .map(Path::toFile)
+                    .collect(Collectors.toList());
+        }
+        if (files.isEmpty()) {
+            throw new RuntimeException(String.format("No IR files found in %s", target));
+        }
+        ForkJoinPool pool = new ForkJoinPool(config.parallelism());
+        try {
+            List<ConjureDefinition> definitions = pool.submit(() -> files.parallelStream()
+                            .map(file -> {
+                                try {
+                                    return parseDefinition(file);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            })
+                            .collect(Collectors.toList()))
+                    .join();
+            return ProjectContext.of(config.productName(), target.getPath(), definitions)
+                    .mergedDefinition();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns whether {@code path}, found under the target directory {@code root}, was written by the generator to
+     * {@code output}. Everything under an output directory below {@code root} is output; when the two are the same
+     * directory, only the folder cache and the collections and metrics written next to the IR are.
+     */
+    private static boolean isGeneratorOutput(Path path, Path root, Path output) {
+        if (!path.startsWith(output)) {
+            return false;
+        }
+        if (!output.equals(root) || path.startsWith(output.resolve(CACHE_DIRECTORY))) {
+            return true;
+        }
+        String fileName = path.getFileName().toString();
+        return fileName.endsWith(".postman_collection.json") || fileName.endsWith(".metrics.json");
+    }
+
+    private static ConjureDefinition parseDefinition(File file) throws IOException {
+        IrParseEvent event = new IrParseEvent();
+        event.begin();
+        ConjureDefinition definition = IrReader.read(file);
+        if (event.shouldCommit()) {
+            event.path = file.getPath();
+            event.bytes = file.length();
+            event.types = definition.getTypes().size();
+            event.services = definition.getServices().size();
+            event.commit();
+        }
+        return definition;
+    }
+
+    @SuppressWarnings("for-rollout:StringCaseLocaleUsage")
+    private static void writeMetrics(File outputDirectory, GenerationMetrics metrics) {
+        File file = new File(
+                outputDirectory,
+                String.format(
+                        "%s.metrics.json",
+                        metrics.productName().replaceAll(" ", "-").toLowerCase()));
+        try {
+            OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, metrics);
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Error writing metrics: %s", e.toString()));
+        }
+    }
+
+    private static PostmanCollectionFileWriter collectionWriter(CliConfiguration cliConfig) {
+        Path outputDirectory = cliConfig.outputDirectory().toPath();
+        return cliConfig.gzip()
+                ? new GzipPostmanCollectionFileWriter(outputDirectory, cliConfig.compact())
+                : new DefaultPostmanCollectionFileWriter(outputDirectory, cliConfig.compact());
+    }
+
+    /**
+     * Generates every collection listed in the batch manifest within this JVM, up to
+     * {@link BatchCliConfiguration#parallelism()} at a time. A failing target does not stop the others; all failures
+     * are reported together once the remaining targets have finished.
+     */
+    static void generateBatch(BatchCliConfiguration batchConfig) {
+        List<CliConfiguration> targets = resolveBatchTargets(batchConfig);
+        ExecutorService executor = Executors.newFixedThreadPool(batchConfig.parallelism());
+        try {
+            List<String> failures = generateAll(targets, executor);
+            if (!failures.isEmpty()) {
+                throw new RuntimeException(String.format(
+                        "Failed to generate %d of %d collections:\n%s",
+                        failures.size(), targets.size(), String.join("\n", failures)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Generates every collection listed in the manifest, then keeps running and regenerates the collections of each IR
+     * file that changes, once writes to it have settled for {@link BatchCliConfiguration#debounceMillis()}. Parsed
+     * classes and JIT-compiled code stay warm between runs. Failures are reported without ending the watch. Targets
+     * must be IR files; directories of IR files are rejected, since changes to the files inside them are not observed.
+     */
+    @SuppressWarnings({"BanSystemOut", "BanSystemErr"})
+    static void watch(BatchCliConfiguration batchConfig) {
+        List<CliConfiguration> targets = resolveBatchTargets(batchConfig);
+        List<String> directories = targets.stream()
+                .filter(cliConfig -> cliConfig.target().isDirectory())
+                .map(cliConfig -> cliConfig.target().toString())
+                .collect(Collectors.toList());
+        if (!directories.isEmpty()) {
+            throw new RuntimeException(String.format(
+                    "Watch mode only supports IR files as targets, but these targets are directories: %s",
+                    String.join(", ", directories)));
+        }
+        Map<Path, List<CliConfiguration>> targetsByFile = targets.stream()
+                .collect(Collectors.groupingBy(
+                        cliConfig -> IrWatcher.normalize(cliConfig.target().toPath())));
+        ExecutorService executor = Executors.newFixedThreadPool(batchConfig.parallelism());
+        try (IrWatcher watcher =
+                new IrWatcher(targetsByFile.keySet(), Duration.ofMillis(batchConfig.debounceMillis()))) {
+            List<CliConfiguration> affected = targets;
+            while (true) {
+                long start = System.nanoTime();
+                List<String> failures = generateAll(affected, executor);
+                System.out.printf(
+                        "Generated %d of %d collections in %d ms%n",
+                        affected.size() - failures.size(),
+                        affected.size(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                failures.forEach(System.err::println);
+                affected = watcher.awaitChanges().stream()
+                        .flatMap(file -> targetsByFile.get(file).stream())
+                        .collect(Collectors.toList());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Error watching targets: %s", e.toString()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Generates {@code targets} on {@code executor}, returning a description of each target that failed. */
+    private static List<String> generateAll(List<CliConfiguration> targets, ExecutorService executor)
+            throws InterruptedException {
+        List<Future<?>> results = targets.stream()
+                .map(cliConfig -> executor.submit(() -> generate(cliConfig, false)))
+                .collect(Collectors.toList());
+        List<String> failures = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                results.get(i).get();
+            } catch (ExecutionException e) {
+                failures.add(String.format("%s: %s", targets.get(i).target(), e.getCause()));
+            }
+        }
+        return failures;
+    }
+
+    private static List<CliConfiguration> resolveBatchTargets(BatchCliConfiguration batchConfig) {
+        BatchManifest manifest;
+        try {
+            manifest = OBJECT_MAPPER.readValue(batchConfig.manifest(), BatchManifest.class);
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Error parsing manifest: %s", e.toString()));
+        }
+        Path baseDirectory = batchConfig.manifest().getAbsoluteFile().toPath().getParent();
+        return manifest.targets().stream()
+                .map(target -> CliConfiguration.builder()
+                        .target(baseDirectory.resolve(target.target()).toFile())
+                        .outputDirectory(
+                                baseDirectory.resolve(target.outputDirectory()).toFile())
+                        .productName(target.productName())
+                        .productVersion(target.productVersion())
+                        .productDescription(target.productDescription())
+                        .apiPath(target.apiPath())
+                        .returnsTemplate(target.returnsTemplate().map(CliConfiguration::returnsTemplate))
+                        .templateBudget(TemplateBudget.builder()
+                                .maxDepth(target.maxTemplateDepth())
+                                .maxNodes(target.maxTemplateNodes())
+                                .maxUnionVariants(target.maxUnionVariants())
+                                .build())
+                        .compact(target.compact())
+                        .compactTemplates(target.compactTemplates())
+                        .gzip(target.gzip())
+                        .perService(target.perService())
+                        .deterministicIds(target.deterministicIds())
+                        .metrics(target.metrics())
+                        .incremental(batchConfig.incremental())
+                        .build())
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.cli;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.conjure.postman.GenerationReport;
+import java.util.OptionalLong;
+import org.immutables.value.Value;
+
+/**
+ * Machine-readable report of a single {@code generate} run, written next to the collection when {@code --metrics} is
+ * passed. Times are wall-clock nanoseconds.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableGenerationMetrics.class)
+public interface GenerationMetrics {
+
+    String productName();
+
+    String productVersion();
+
+    /** Time spent reading and parsing the IR file. */
+    long parseNanos();
+
+    /** Time spent rendering and writing the collection, from the parsed IR to the last byte written. */
+    long generateNanos();
+
+    /** Total size of the files written, if the writer keeps count. */
+    OptionalLong bytesWritten();
+
+    /**
+     * Sum of the peak usage of each heap memory pool over the run, an upper bound on the peak heap use. Pools are
+     * shared by the whole JVM, so the figure is only recorded by the {@code generate} command and not for the targets
+     * of {@code batch} or {@code watch}, which run concurrently.
+     */
+    OptionalLong peakHeapBytes();
+
+    /** Per-service and per-endpoint timings, template sizes and template cache statistics. */
+    GenerationReport generation();
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    final class Builder extends ImmutableGenerationMetrics.Builder {}
+}
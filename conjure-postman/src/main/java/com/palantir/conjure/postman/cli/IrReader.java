@@ -0,0 +1,45 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.cli;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.palantir.conjure.spec.ConjureDefinition;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Reads Conjure IR files. The reader is built once per JVM with the {@link ConjureDefinition} deserializers resolved up
+ * front and shared by every generation, including those running concurrently in {@code batch} and {@code watch}
+ * mode. The Blackbird module replaces reflective calls to the IR's builder setters with generated lambdas, which
+ * matters for IR files large enough that parsing them is the longest phase of a generation.
+ */
+public final class IrReader {
+
+    private static final ObjectReader reader = new ObjectMapper()
+            .registerModule(new Jdk8Module())
+            .registerModule(new BlackbirdModule())
+            .readerFor(ConjureDefinition.class);
+
+    private IrReader() {}
+
+    public static ConjureDefinition read(File file) throws IOException {
+        return reader.readValue(file);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.postman.cli;
+
+import com.google.common.collect.ImmutableSet;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a fixed set of files for changes. {@link WatchService} only observes directories, so the parent directory of
+ * each file is registered and events for unrelated siblings are discarded. A directory that is deleted, as when a build
+ * cleans its output, is watched for from its parent until it is created again.
+ */
+final class IrWatcher implements Closeable {
+
+    private final ImmutableSet<Path> files;
+    private final Duration debounce;
+    private final WatchService watchService;
+    private final ImmutableSet<Path> watchedDirectories;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private final Set<Path> removedDirectories = new HashSet<>();
+
+    IrWatcher(Collection<Path> files, Duration debounce) throws IOException {
+        this.files = files.stream().map(IrWatcher::normalize).collect(ImmutableSet.toImmutableSet());
+        this.debounce = debounce;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.watchedDirectories = this.files.stream().map(Path::getParent).collect(ImmutableSet.toImmutableSet());
+        for (Path directory : watchedDirectories) {
+            register(directory);
+        }
+    }
+
+    private void register(Path directory) throws IOException {
+        directories.put(
+                directory.register(
+                        watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY),
+                directory);
+    }
+
+    /**
+     * Blocks until at least one watched file changes, then keeps collecting changes until none have been seen for the
+     * debounce interval, so that a build rewriting a file in several steps triggers a single regeneration.
+     */
+    Set<Path> awaitChanges() throws IOException, InterruptedException {
+        Set<Path> changed = new HashSet<>();
+        while (changed.isEmpty()) {
+            collect(watchService.take(), changed);
+            WatchKey key;
+            while ((key = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+                collect(key, changed);
+            }
+        }
+        return changed;
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) throws IOException {
+        Path directory = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were dropped, so any file in this directory may have changed.
+                files.stream()
+                        .filter(file -> directory.equals(file.getParent()))
+                        .forEach(changed::add);
+            } else if (event.context() instanceof Path) {
+                Path file = directory.resolve((Path) event.context());
+                if (files.contains(file)) {
+                    changed.add(file);
+                }
+            }
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+            if (watchedDirectories.contains(directory)) {
+                removedDirectories.add(directory);
+            }
+        }
+        restoreRemovedDirectories(changed);
+    }
+
+    /**
+     * Registers removed directories again once they exist. Files written before that produced no events, so all watched
+     * files in a restored directory are reported as changed.
+     */
+    private void restoreRemovedDirectories(Set<Path> changed) throws IOException {
+        for (Path directory : ImmutableSet.copyOf(removedDirectories)) {
+            if (!Files.isDirectory(directory)) {
+                Path parent = directory.getParent();
+                if (!Files.isDirectory(parent)) {
+                    throw new IOException(String.format("Watched directory %s and its parent were removed", directory));
+                }
+                register(parent);
+            }
+            if (Files.isDirectory(directory)) {
+                register(directory);
+                removedDirectories.remove(directory);
+                files.stream()
+                        .filter(file -> directory.equals(file.getParent()))
+                        .forEach(changed::add);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    static Path normalize(Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+}